@@ -18,23 +18,22 @@
 package org.jreleaser.logging;
 
 import java.io.PrintWriter;
-import java.util.Stack;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final Stack<String> prefix = new Stack<>();
+    // prefix and indentation are tracked per thread so that concurrent tasks do not clobber each other
+    private final ThreadLocal<JReleaserLoggerContext> context = ThreadLocal.withInitial(() -> JReleaserLoggerContext.ROOT);
     private final PrintWriter tracer;
-    private String indent = "";
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
         this.tracer = tracer;
     }
 
     protected boolean isIndented() {
-        return !indent.equals("");
+        return context.get().isIndented();
     }
 
     @Override
@@ -42,38 +41,43 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
         return tracer;
     }
 
+    @Override
+    public JReleaserLoggerContext getContext() {
+        return context.get();
+    }
+
+    @Override
+    public void setContext(JReleaserLoggerContext context) {
+        this.context.set(null != context ? context : JReleaserLoggerContext.ROOT);
+    }
+
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        context.remove();
     }
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        context.set(context.get().withPrefix(prefix));
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
-        }
+        context.set(context.get().withoutPrefix());
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        context.set(context.get().indented());
     }
 
     @Override
     public void decreaseIndent() {
-        if (indent.length() > 0) {
-            indent = indent.substring(0, indent.length() - 2);
-        }
+        context.set(context.get().outdented());
     }
 
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        return context.get().format(message);
     }
 
     @Override
@@ -0,0 +1,278 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decorates a logger so that output produced by concurrent tasks does not interleave.
+ * <p>
+ * Messages logged between {@link #beginTask(JReleaserLoggerContext)} and {@link #endTask()}
+ * are kept together with the context in effect when they were logged, then written to the
+ * delegate in one go once the task ends. A task scheduled from within another task hands its
+ * messages over to the enclosing task instead, so nested output keeps its place; a task that
+ * outlives its enclosing task hands them to the next one still running, or writes them to the
+ * delegate. Messages logged outside of a task are written immediately. Writes to the delegate
+ * are serialized.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class BufferedJReleaserLogger implements JReleaserLogger {
+    private final JReleaserLogger delegate;
+    private final ThreadLocal<Buffer> buffer = new ThreadLocal<>();
+    private final Object lock = new Object();
+
+    private BufferedJReleaserLogger(JReleaserLogger delegate) {
+        this.delegate = requireNonNull(delegate, "'delegate' must not be null");
+    }
+
+    public static JReleaserLogger of(JReleaserLogger logger) {
+        if (logger instanceof BufferedJReleaserLogger) return logger;
+        return new BufferedJReleaserLogger(logger);
+    }
+
+    @Override
+    public PrintWriter getTracer() {
+        return delegate.getTracer();
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+
+    @Override
+    public void increaseIndent() {
+        delegate.increaseIndent();
+    }
+
+    @Override
+    public void decreaseIndent() {
+        delegate.decreaseIndent();
+    }
+
+    @Override
+    public void setPrefix(String prefix) {
+        delegate.setPrefix(prefix);
+    }
+
+    @Override
+    public void restorePrefix() {
+        delegate.restorePrefix();
+    }
+
+    @Override
+    public JReleaserLoggerContext getContext() {
+        return delegate.getContext().withSink(buffer.get());
+    }
+
+    @Override
+    public void setContext(JReleaserLoggerContext context) {
+        delegate.setContext(context);
+    }
+
+    @Override
+    public void beginTask(JReleaserLoggerContext context) {
+        delegate.setContext(context);
+        buffer.set(new Buffer(context.sink instanceof Buffer ? (Buffer) context.sink : null));
+    }
+
+    @Override
+    public void endTask() {
+        Buffer current = buffer.get();
+        buffer.remove();
+
+        try {
+            if (null == current) return;
+
+            List<Entry> entries = current.close();
+            Buffer target = current.parent;
+            while (null != target && !target.addAll(entries)) {
+                target = target.parent;
+            }
+            if (null == target && !entries.isEmpty()) {
+                synchronized (lock) {
+                    for (Entry entry : entries) {
+                        delegate.setContext(entry.context);
+                        entry.action.accept(delegate);
+                    }
+                }
+            }
+        } finally {
+            delegate.reset();
+        }
+    }
+
+    @Override
+    public void debug(String message) {
+        log(l -> l.debug(message));
+    }
+
+    @Override
+    public void info(String message) {
+        log(l -> l.info(message));
+    }
+
+    @Override
+    public void warn(String message) {
+        log(l -> l.warn(message));
+    }
+
+    @Override
+    public void error(String message) {
+        log(l -> l.error(message));
+    }
+
+    @Override
+    public void trace(String message) {
+        log(l -> l.trace(message));
+    }
+
+    @Override
+    public void debug(String message, Object... args) {
+        if (isBuffering()) {
+            // arguments may change before the task ends, format them right away
+            debug(format(message, args));
+        } else {
+            log(l -> l.debug(message, args));
+        }
+    }
+
+    @Override
+    public void info(String message, Object... args) {
+        if (isBuffering()) {
+            info(format(message, args));
+        } else {
+            log(l -> l.info(message, args));
+        }
+    }
+
+    @Override
+    public void warn(String message, Object... args) {
+        if (isBuffering()) {
+            warn(format(message, args));
+        } else {
+            log(l -> l.warn(message, args));
+        }
+    }
+
+    @Override
+    public void error(String message, Object... args) {
+        if (isBuffering()) {
+            error(format(message, args));
+        } else {
+            log(l -> l.error(message, args));
+        }
+    }
+
+    @Override
+    public void debug(String message, Throwable throwable) {
+        log(l -> l.debug(message, throwable));
+    }
+
+    @Override
+    public void info(String message, Throwable throwable) {
+        log(l -> l.info(message, throwable));
+    }
+
+    @Override
+    public void warn(String message, Throwable throwable) {
+        log(l -> l.warn(message, throwable));
+    }
+
+    @Override
+    public void error(String message, Throwable throwable) {
+        log(l -> l.error(message, throwable));
+    }
+
+    @Override
+    public void trace(String message, Throwable throwable) {
+        log(l -> l.trace(message, throwable));
+    }
+
+    @Override
+    public void trace(Throwable throwable) {
+        log(l -> l.trace(throwable));
+    }
+
+    private boolean isBuffering() {
+        return null != buffer.get();
+    }
+
+    private static String format(String message, Object... args) {
+        return MessageFormatter.arrayFormat(message, args).getMessage();
+    }
+
+    private void log(Consumer<JReleaserLogger> action) {
+        Buffer current = buffer.get();
+        if (null != current) {
+            current.add(new Entry(delegate.getContext(), action));
+            return;
+        }
+
+        synchronized (lock) {
+            action.accept(delegate);
+        }
+    }
+
+    private static final class Buffer {
+        private final Buffer parent;
+        private final List<Entry> entries = new ArrayList<>();
+        private boolean closed;
+
+        private Buffer(Buffer parent) {
+            this.parent = parent;
+        }
+
+        private synchronized void add(Entry entry) {
+            entries.add(entry);
+        }
+
+        private synchronized boolean addAll(List<Entry> list) {
+            // already written out, late entries would be lost
+            if (closed) return false;
+            entries.addAll(list);
+            return true;
+        }
+
+        private synchronized List<Entry> close() {
+            closed = true;
+            List<Entry> list = new ArrayList<>(entries);
+            entries.clear();
+            return list;
+        }
+    }
+
+    private static final class Entry {
+        private final JReleaserLoggerContext context;
+        private final Consumer<JReleaserLogger> action;
+
+        private Entry(JReleaserLoggerContext context, Consumer<JReleaserLogger> action) {
+            this.context = context;
+            this.action = action;
+        }
+    }
+}
@@ -37,6 +37,45 @@ public interface JReleaserLogger {
 
     void restorePrefix();
 
+    /**
+     * Returns the prefix and indentation in effect on the calling thread.
+     *
+     * @since 1.3.0
+     */
+    default JReleaserLoggerContext getContext() {
+        return JReleaserLoggerContext.ROOT;
+    }
+
+    /**
+     * Replaces the prefix and indentation in effect on the calling thread.
+     *
+     * @since 1.3.0
+     */
+    default void setContext(JReleaserLoggerContext context) {
+        // noop
+    }
+
+    /**
+     * Marks the start of a unit of work running on the calling thread. Implementations
+     * may hold back messages until {@link #endTask()} is called.
+     *
+     * @param context the context captured by the thread that scheduled the work.
+     * @since 1.3.0
+     */
+    default void beginTask(JReleaserLoggerContext context) {
+        setContext(context);
+    }
+
+    /**
+     * Marks the end of a unit of work started with {@link #beginTask(JReleaserLoggerContext)}
+     * and clears the state of the calling thread.
+     *
+     * @since 1.3.0
+     */
+    default void endTask() {
+        reset();
+    }
+
     void debug(String message);
 
     void info(String message);
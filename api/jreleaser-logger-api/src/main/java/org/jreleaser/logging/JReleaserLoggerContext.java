@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the prefix and indentation applied to log messages.
+ * <p>
+ * Every change produces a new instance, a context captured on one thread may be handed to
+ * workers without further coordination.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class JReleaserLoggerContext {
+    public static final JReleaserLoggerContext ROOT = new JReleaserLoggerContext(Collections.emptyList(), "", null);
+
+    private static final String INDENT = "  ";
+
+    private final List<String> prefixes;
+    private final String indent;
+    // output of tasks scheduled with this context is handed over to this sink, if any
+    final Object sink;
+
+    private JReleaserLoggerContext(List<String> prefixes, String indent, Object sink) {
+        this.prefixes = prefixes;
+        this.indent = indent;
+        this.sink = sink;
+    }
+
+    public String getPrefix() {
+        return prefixes.isEmpty() ? null : prefixes.get(prefixes.size() - 1);
+    }
+
+    public String getIndent() {
+        return indent;
+    }
+
+    public boolean isIndented() {
+        return !indent.isEmpty();
+    }
+
+    public JReleaserLoggerContext withPrefix(String prefix) {
+        List<String> list = new ArrayList<>(prefixes);
+        list.add(prefix);
+        return new JReleaserLoggerContext(Collections.unmodifiableList(list), indent, sink);
+    }
+
+    public JReleaserLoggerContext withoutPrefix() {
+        if (prefixes.isEmpty()) return this;
+        return new JReleaserLoggerContext(prefixes.subList(0, prefixes.size() - 1), indent, sink);
+    }
+
+    public JReleaserLoggerContext indented() {
+        return new JReleaserLoggerContext(prefixes, indent + INDENT, sink);
+    }
+
+    public JReleaserLoggerContext outdented() {
+        if (indent.isEmpty()) return this;
+        return new JReleaserLoggerContext(prefixes, indent.substring(0, indent.length() - INDENT.length()), sink);
+    }
+
+    JReleaserLoggerContext withSink(Object sink) {
+        if (this.sink == sink) return this;
+        return new JReleaserLoggerContext(prefixes, indent, sink);
+    }
+
+    public String format(String message) {
+        String prefix = getPrefix();
+        return indent + (null != prefix ? "[" + prefix + "] " : "") + message;
+    }
+}
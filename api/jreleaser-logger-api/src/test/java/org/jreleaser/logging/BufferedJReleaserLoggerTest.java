@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class BufferedJReleaserLoggerTest {
+    private StringWriter output;
+    private JReleaserLogger logger;
+
+    @BeforeEach
+    public void setup() {
+        output = new StringWriter();
+        logger = BufferedJReleaserLogger.of(new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true),
+            SimpleJReleaserLoggerAdapter.Level.INFO));
+    }
+
+    @Test
+    public void messagesOutsideOfTasksAreWrittenImmediately() {
+        // when:
+        logger.info("one");
+
+        // then:
+        assertThat(lines(), contains("one"));
+    }
+
+    @Test
+    public void messagesAreBufferedUntilTheTaskEnds() {
+        // given:
+        StringBuilder value = new StringBuilder("before");
+        logger.beginTask(JReleaserLoggerContext.ROOT.withPrefix("task"));
+
+        // when:
+        logger.info("one");
+        logger.info("two {}", value);
+        value.replace(0, value.length(), "after");
+
+        // then:
+        assertThat(lines(), empty());
+
+        // when:
+        logger.endTask();
+
+        // then:
+        assertThat(lines(), contains("[task] one", "[task] two before"));
+    }
+
+    @Test
+    public void tasksAreFlushedWholeInTheOrderTheyEnd() throws Exception {
+        // given:
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondEnded = new CountDownLatch(1);
+
+        Thread first = new Thread(() -> {
+            logger.beginTask(JReleaserLoggerContext.ROOT.withPrefix("first"));
+            try {
+                logger.info("one");
+                firstStarted.countDown();
+                await(secondEnded);
+                logger.info("two");
+            } finally {
+                logger.endTask();
+            }
+        });
+        Thread second = new Thread(() -> {
+            await(firstStarted);
+            logger.beginTask(JReleaserLoggerContext.ROOT.withPrefix("second"));
+            try {
+                logger.info("one");
+                logger.info("two");
+            } finally {
+                logger.endTask();
+                secondEnded.countDown();
+            }
+        });
+
+        // when:
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+
+        // then:
+        assertThat(lines(), contains("[second] one", "[second] two", "[first] one", "[first] two"));
+    }
+
+    @Test
+    public void nestedTasksHandTheirOutputToTheEnclosingTask() throws Exception {
+        // given:
+        logger.beginTask(JReleaserLoggerContext.ROOT.withPrefix("outer"));
+        logger.info("before");
+        JReleaserLoggerContext context = logger.getContext();
+        AtomicReference<List<String>> linesWhenInnerEnded = new AtomicReference<>();
+
+        // when:
+        Thread inner = new Thread(() -> {
+            logger.beginTask(context.withPrefix("inner").indented());
+            try {
+                logger.info("nested");
+            } finally {
+                logger.endTask();
+                linesWhenInnerEnded.set(lines());
+            }
+        });
+        inner.start();
+        inner.join();
+        logger.info("after");
+        logger.endTask();
+
+        // then:
+        assertThat(linesWhenInnerEnded.get(), empty());
+        assertThat(lines(), contains("[outer] before", "  [inner] nested", "[outer] after"));
+    }
+
+    @Test
+    public void tasksOutlivingTheEnclosingTaskAreNotLost() throws Exception {
+        // given:
+        logger.beginTask(JReleaserLoggerContext.ROOT.withPrefix("outer"));
+        JReleaserLoggerContext context = logger.getContext();
+        CountDownLatch outerEnded = new CountDownLatch(1);
+        Thread inner = new Thread(() -> {
+            logger.beginTask(context.withPrefix("inner"));
+            try {
+                await(outerEnded);
+                logger.info("late");
+            } finally {
+                logger.endTask();
+            }
+        });
+        inner.start();
+
+        // when:
+        logger.info("done");
+        logger.endTask();
+        outerEnded.countDown();
+        inner.join();
+
+        // then:
+        assertThat(lines(), contains("[outer] done", "[inner] late"));
+    }
+
+    @Test
+    public void contextIsRestoredOnceTheTaskEnds() {
+        // given:
+        logger.beginTask(JReleaserLoggerContext.ROOT.withPrefix("task").indented());
+        logger.info("one");
+
+        // when:
+        logger.endTask();
+        logger.info("two");
+
+        // then:
+        assertThat(lines(), contains("  [task] one", "two"));
+    }
+
+    private List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        for (String line : output.toString().split("\\R")) {
+            if (line.isEmpty()) continue;
+            lines.add(line.substring(SimpleJReleaserLoggerAdapter.Level.INFO.toString().length()));
+        }
+        return lines;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -21,7 +21,6 @@ import org.jreleaser.bundle.RB;
 
 import java.util.List;
 import java.util.ServiceLoader;
-import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -32,9 +31,10 @@ import static java.util.stream.Collectors.toList;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public final class ExtensionManagerHolder {
-    private static final ThreadLocal<ExtensionManager> EXTENSION_MANAGER_THREAD_LOCAL = ThreadLocal.withInitial(new Supplier<ExtensionManager>() {
+    // inheritable, worker threads spawned while running a workflow must see the extensions loaded by it
+    private static final ThreadLocal<ExtensionManager> EXTENSION_MANAGER_THREAD_LOCAL = new InheritableThreadLocal<ExtensionManager>() {
         @Override
-        public ExtensionManager get() {
+        protected ExtensionManager initialValue() {
             List<ExtensionManager> extensionManagers = StreamSupport
                 .stream(resolveServiceLoader().spliterator(), false)
                 .collect(toList());
@@ -48,7 +48,7 @@ public final class ExtensionManagerHolder {
 
             return extensionManagers.get(0);
         }
-    });
+    };
 
     public static ExtensionManager get() {
         return EXTENSION_MANAGER_THREAD_LOCAL.get();
@@ -85,11 +85,17 @@ public interface JReleaserModel extends Domain {
         private final String shortHash;
         private final String fullHash;
         private final String refName;
+        private final long timestamp;
 
         public Commit(String shortHash, String fullHash, String refName) {
+            this(shortHash, fullHash, refName, 0L);
+        }
+
+        public Commit(String shortHash, String fullHash, String refName, long timestamp) {
             this.shortHash = shortHash;
             this.fullHash = fullHash;
             this.refName = refName;
+            this.timestamp = timestamp;
         }
 
         public String getShortHash() {
@@ -103,5 +109,14 @@ public interface JReleaserModel extends Domain {
         public String getRefName() {
             return refName;
         }
+
+        /**
+         * Commit time in seconds since the epoch, {@code 0} when unknown.
+         *
+         * @since 1.3.0
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
     }
 }
@@ -18,6 +18,7 @@
 package org.jreleaser.model.api.assemble;
 
 import org.jreleaser.model.Archive;
+import org.jreleaser.model.api.common.ArchiveOptions;
 
 import java.util.Set;
 
@@ -33,4 +34,6 @@ public interface ArchiveAssembler extends Assembler {
     boolean isAttachPlatform();
 
     Set<Archive.Format> getFormats();
+
+    ArchiveOptions getOptions();
 }
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.model.api.assemble;
 
+import org.jreleaser.model.api.common.ArchiveOptions;
 import org.jreleaser.model.api.common.Artifact;
 import org.jreleaser.model.api.common.Domain;
 import org.jreleaser.model.api.common.EnabledAware;
@@ -47,6 +48,8 @@ public interface JlinkAssembler extends Assembler, JavaAssembler {
 
     boolean isCopyJars();
 
+    ArchiveOptions getOptions();
+
     interface Jdeps extends Domain, EnabledAware {
         String getMultiRelease();
 
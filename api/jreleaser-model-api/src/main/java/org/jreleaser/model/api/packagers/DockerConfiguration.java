@@ -50,6 +50,10 @@ public interface DockerConfiguration extends Domain, ExtraProperties, Activatabl
 
     List<String> getBuildArgs();
 
+    List<String> getCacheFrom();
+
+    List<String> getCacheTo();
+
     List<String> getPreCommands();
 
     List<String> getPostCommands();
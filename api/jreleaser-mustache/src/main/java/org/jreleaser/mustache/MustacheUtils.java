@@ -25,6 +25,7 @@ import com.github.mustachejava.TemplateFunction;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.mustache.MustacheExtensionPoint;
+import org.jreleaser.util.Env;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -50,7 +51,7 @@ public final class MustacheUtils {
 
     private static Map<String, String> envVars() {
         Map<String, String> vars = new LinkedHashMap<>();
-        System.getenv().forEach((k, v) -> {
+        Env.getEnvironment().forEach((k, v) -> {
             if (!k.startsWith("JRELEASER_")) {
                 vars.put("Env." + k, v);
             }
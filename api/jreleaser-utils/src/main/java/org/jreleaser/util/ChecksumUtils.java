@@ -23,6 +23,9 @@ import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * @author Andres Almiray
@@ -65,4 +68,47 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    public static String checksum(Algorithm algorithm, Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return checksum(algorithm, in);
+        }
+    }
+
+    public static String checksum(Algorithm algorithm, InputStream data) throws IOException {
+        switch (algorithm) {
+            case MD2:
+                return DigestUtils.md2Hex(data);
+            case MD5:
+                return DigestUtils.md5Hex(data);
+            case RMD160:
+                RIPEMD160Digest digest = new RIPEMD160Digest();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = data.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+                byte[] output = new byte[digest.getDigestSize()];
+                digest.doFinal(output, 0);
+                return Hex.encodeHexString(output);
+            case SHA_1:
+                return DigestUtils.sha1Hex(data);
+            case SHA_256:
+                return DigestUtils.sha256Hex(data);
+            case SHA_384:
+                return DigestUtils.sha384Hex(data);
+            case SHA_512:
+                return DigestUtils.sha512Hex(data);
+            case SHA3_224:
+                return DigestUtils.sha3_224Hex(data);
+            case SHA3_256:
+                return DigestUtils.sha3_256Hex(data);
+            case SHA3_384:
+                return DigestUtils.sha3_384Hex(data);
+            case SHA3_512:
+                return DigestUtils.sha3_512Hex(data);
+            default:
+                throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+        }
+    }
 }
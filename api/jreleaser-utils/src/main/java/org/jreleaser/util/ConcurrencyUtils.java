@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Helpers for running independent units of work on a bounded pool of workers.
+ * <p>
+ * Parallel execution is opt-in. The number of workers is read from an environment
+ * variable or system property (see {@link Env#resolve(String, String)}); a missing
+ * value, {@code 0} or {@code 1} keeps the serial behavior, {@code auto} uses one
+ * worker per available processor.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ConcurrencyUtils {
+    private static final String AUTO = "auto";
+
+    private ConcurrencyUtils() {
+        // prevent instantiation
+    }
+
+    public static int resolveParallelism(String key) {
+        String value = Env.resolve(key, "");
+        if (isBlank(value)) return 1;
+
+        value = value.trim().toLowerCase(Locale.ENGLISH);
+        if (AUTO.equals(value)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Executes all tasks using at most {@code workers} threads. Tasks that share the same
+     * group run one after another, in the order they were given; distinct groups run
+     * concurrently. Every task runs even if others fail.
+     *
+     * @return the failure of each task, in the order the tasks were given ({@code null} on success).
+     */
+    public static List<Throwable> executeGrouped(String name, int workers, List<GroupedTask> tasks) {
+        List<Throwable> failures = new ArrayList<>(Collections.nCopies(tasks.size(), null));
+        if (tasks.isEmpty()) return failures;
+
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            groups.computeIfAbsent(tasks.get(i).getGroup(), k -> new ArrayList<>()).add(i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, groups.size())),
+            new NamedThreadFactory(name));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<Integer> group : groups.values()) {
+                futures.add(executor.submit(() -> {
+                    for (Integer index : group) {
+                        try {
+                            tasks.get(index).run();
+                        } catch (Throwable t) {
+                            failures.set(index, t);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } catch (ExecutionException e) {
+                    // failures are recorded per task
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return failures;
+    }
+
+    public static GroupedTask task(String group, Task task) {
+        return new GroupedTask(group, task);
+    }
+
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    public static final class GroupedTask implements Task {
+        private final String group;
+        private final Task task;
+
+        private GroupedTask(String group, Task task) {
+            this.group = group;
+            this.task = task;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        @Override
+        public void run() throws Exception {
+            task.run();
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger(1);
+        private final String name;
+
+        private NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "jreleaser-" + name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
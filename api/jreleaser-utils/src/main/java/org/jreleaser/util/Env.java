@@ -22,6 +22,7 @@ import org.jreleaser.bundle.RB;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -37,6 +38,28 @@ public class Env {
     private static final String JRELEASER_ENV_PREFIX = "JRELEASER_";
     private static final String JRELEASER_SYS_PREFIX = "jreleaser.";
 
+    private static volatile Map<String, String> environment;
+
+    /**
+     * Environment variables visible to JReleaser, {@code System.getenv()} unless replaced.
+     *
+     * @since 1.3.0
+     */
+    public static Map<String, String> getEnvironment() {
+        Map<String, String> env = environment;
+        return null != env ? env : System.getenv();
+    }
+
+    /**
+     * Replaces the environment variables visible to JReleaser, {@code null} restores
+     * {@code System.getenv()}. The CLI daemon runs every request with its client's environment.
+     *
+     * @since 1.3.0
+     */
+    public static void setEnvironment(Map<String, String> env) {
+        environment = env;
+    }
+
     public static String toVar(String str) {
         return str.replaceAll(" ", "_")
             .replaceAll("-", "_")
@@ -63,7 +86,7 @@ public class Env {
         if (isNotBlank(value)) {
             return value;
         }
-        return System.getenv(envKey(key));
+        return getEnvironment().get(envKey(key));
     }
 
     public static String env(Collection<String> keys, String value) {
@@ -73,8 +96,8 @@ public class Env {
 
         return keys.stream()
             .map(Env::envKey)
-            .filter(key -> System.getenv().containsKey(key))
-            .map(System::getenv)
+            .filter(key -> getEnvironment().containsKey(key))
+            .map(key -> getEnvironment().get(key))
             .findFirst()
             .orElse(null);
     }
@@ -111,7 +134,7 @@ public class Env {
     public static String check(String key, String value, String property, String dsl, String configFilePath, Errors errors) {
         if (isBlank(value)) {
             String prefixedKey = envKey(key);
-            value = System.getenv(prefixedKey);
+            value = getEnvironment().get(prefixedKey);
             if (isBlank(value)) {
                 errors.configuration(RB.$("ERROR_environment_property_check",
                     property, dsl, prefixedKey, configFilePath, prefixedKey));
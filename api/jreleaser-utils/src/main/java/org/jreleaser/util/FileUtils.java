@@ -20,6 +20,7 @@ package org.jreleaser.util;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -31,18 +32,24 @@ import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
 import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
-import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
+import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.UnsupportedOptionsException;
+import org.tukaani.xz.XZOutputStream;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystemLoopException;
 import java.nio.file.FileVisitResult;
@@ -64,19 +71,30 @@ import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
 import java.util.zip.ZipOutputStream;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static org.jreleaser.util.FileType.TAR;
 import static org.jreleaser.util.FileType.TAR_BZ2;
 import static org.jreleaser.util.FileType.TAR_GZ;
 import static org.jreleaser.util.FileType.TAR_XZ;
@@ -108,6 +126,11 @@ public final class FileUtils {
         TXZ.extension()
     };
 
+    static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_BLOCK_SIZE = 1024 * 1024;
+    private static final long GZIP_ENCODER_MEMORY = 256 * 1024L;
+    private static final AtomicInteger ARCHIVE_THREAD_COUNTER = new AtomicInteger();
+
     private FileUtils() {
         //noop
     }
@@ -151,86 +174,283 @@ public final class FileUtils {
     }
 
     public static void zip(Path src, Path dest) throws IOException {
-        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(dest.toFile())) {
-            out.setMethod(ZipOutputStream.DEFLATED);
+        zip(src, dest, new ArchiveOptions());
+    }
 
-            Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    String entryName = src.relativize(file).toString();
-                    File inputFile = file.toFile();
-                    ZipArchiveEntry archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+    public static void zip(Path src, Path dest, ArchiveOptions options) throws IOException {
+        archive(src, dest, ZIP, options);
+    }
 
-                    archiveEntry.setMethod(ZipOutputStream.DEFLATED);
-                    if (inputFile.isFile() && Files.isExecutable(file)) {
-                        archiveEntry.setUnixMode(0100755);
-                    }
+    public static void tar(Path src, Path dest) throws IOException {
+        tar(src, dest, new ArchiveOptions());
+    }
 
-                    out.putArchiveEntry(archiveEntry);
+    public static void tar(Path src, Path dest, ArchiveOptions options) throws IOException {
+        archive(src, dest, TAR, options);
+    }
 
-                    if (inputFile.isFile()) {
-                        out.write(Files.readAllBytes(file));
-                    }
-                    out.closeArchiveEntry();
+    public static void tgz(Path src, Path dest) throws IOException {
+        tgz(src, dest, new ArchiveOptions());
+    }
+
+    public static void tgz(Path src, Path dest, ArchiveOptions options) throws IOException {
+        archive(src, dest, TGZ, options);
+    }
 
-                    return FileVisitResult.CONTINUE;
+    public static void bz2(Path src, Path dest) throws IOException {
+        bz2(src, dest, new ArchiveOptions());
+    }
+
+    public static void bz2(Path src, Path dest, ArchiveOptions options) throws IOException {
+        archive(src, dest, TBZ2, options);
+    }
+
+    public static void xz(Path src, Path dest) throws IOException {
+        xz(src, dest, new ArchiveOptions());
+    }
+
+    public static void xz(Path src, Path dest, ArchiveOptions options) throws IOException {
+        archive(src, dest, TXZ, options);
+    }
+
+    /**
+     * Creates an archive for every given type from a single scan of {@code src}. Each file is read
+     * once and its contents are handed to all archives, which are encoded concurrently, one thread
+     * per archive. Entries are written in the same order as {@link #zip(Path, Path)} and friends,
+     * the resulting archives are identical to those created one at a time.
+     */
+    public static void archive(Path src, Map<FileType, Path> destinations, ArchiveOptions options) throws IOException {
+        if (destinations.size() == 1) {
+            Map.Entry<FileType, Path> e = destinations.entrySet().iterator().next();
+            archive(src, e.getValue(), e.getKey(), options);
+            return;
+        }
+
+        List<Path> files = listArchiveEntries(src, options);
+        List<ArchiveWriter> writers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(destinations.size(), r -> {
+            Thread t = new Thread(r, "jreleaser-archive-" + ARCHIVE_THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            for (Map.Entry<FileType, Path> e : destinations.entrySet()) {
+                ArchiveWriter writer = new ArchiveWriter(src, e.getValue(), e.getKey(), options);
+                writers.add(writer);
+                executor.execute(writer);
+            }
+
+            for (Path file : files) {
+                post(writers, ArchiveChunk.entry(file));
+                if (Files.isRegularFile(file)) {
+                    try (FileChannel channel = FileChannel.open(file, READ)) {
+                        while (true) {
+                            // chunks are shared by all writers, a fresh buffer is needed for each read
+                            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+                            if (channel.read(buffer) == -1) break;
+                            post(writers, ArchiveChunk.data(buffer.array(), buffer.position()));
+                        }
+                    }
                 }
-            });
+                post(writers, ArchiveChunk.CLOSE_ENTRY);
+            }
+        } finally {
+            post(writers, ArchiveChunk.END);
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
         }
+
+        IOException failure = null;
+        for (ArchiveWriter writer : writers) {
+            if (null == writer.failure) continue;
+            if (null == failure) {
+                failure = writer.failure;
+            } else {
+                failure.addSuppressed(writer.failure);
+            }
+        }
+        if (null != failure) throw failure;
     }
 
-    public static void tar(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING))) {
-            tar(src, out);
+    private static void post(List<ArchiveWriter> writers, ArchiveChunk chunk) throws IOException {
+        for (ArchiveWriter writer : writers) {
+            try {
+                // a writer that failed stops consuming, skip it instead of blocking on its queue
+                while (!writer.finished && !writer.queue.offer(chunk, 100L, TimeUnit.MILLISECONDS)) {
+                    // retry
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
         }
     }
 
-    public static void tgz(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new GzipCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
-            tar(src, out);
+    private static void archive(Path src, Path dest, FileType type, ArchiveOptions options) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        try (ArchiveOutputStream out = createArchiveOutputStream(dest, type, options)) {
+            for (Path file : listArchiveEntries(src, options)) {
+                putArchiveEntry(src, file, out, options);
+                if (Files.isRegularFile(file)) {
+                    copy(file, out, buffer);
+                }
+                out.closeArchiveEntry();
+            }
         }
     }
 
-    public static void bz2(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new BZip2CompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
-            tar(src, out);
+    private static List<Path> listArchiveEntries(Path src, ArchiveOptions options) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                files.add(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        if (options.isReproducible()) {
+            // walk order depends on the file system, entry names do not
+            files.sort(Comparator.comparing(file -> src.relativize(file).toString().replace('\\', '/')));
         }
+        return files;
     }
 
-    public static void xz(Path src, Path dest) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new XZCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
-            tar(src, out);
+    private static void putArchiveEntry(Path src, Path file, ArchiveOutputStream out, ArchiveOptions options) throws IOException {
+        String entryName = src.relativize(file).toString();
+        File inputFile = file.toFile();
+        boolean executable = inputFile.isFile() && Files.isExecutable(file);
+
+        if (out instanceof ZipArchiveOutputStream) {
+            ZipArchiveEntry archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+            archiveEntry.setMethod(ZipOutputStream.DEFLATED);
+            if (options.isReproducible()) {
+                archiveEntry.setUnixMode(executable ? 0100755 : 0100644);
+                long time = options.resolveEntryTime();
+                // zip stores local time, shift it so that the stored value is the same in every time zone
+                archiveEntry.setTime(time - TimeZone.getDefault().getOffset(time));
+            } else if (executable) {
+                archiveEntry.setUnixMode(0100755);
+            }
+            out.putArchiveEntry(archiveEntry);
+        } else {
+            TarArchiveEntry archiveEntry = (TarArchiveEntry) out.createArchiveEntry(inputFile, entryName);
+            if (options.isReproducible()) {
+                archiveEntry.setMode(executable ? 0100755 : 0100644);
+                archiveEntry.setModTime(options.resolveEntryTime());
+                archiveEntry.setUserId(0);
+                archiveEntry.setGroupId(0);
+                archiveEntry.setUserName("");
+                archiveEntry.setGroupName("");
+            } else if (executable) {
+                archiveEntry.setMode(0100755);
+            }
+            out.putArchiveEntry(archiveEntry);
         }
     }
 
-    private static void tar(Path src, TarArchiveOutputStream out) throws IOException {
+    private static ArchiveOutputStream createArchiveOutputStream(Path dest, FileType type, ArchiveOptions options) throws IOException {
+        if (type == ZIP) {
+            ZipArchiveOutputStream out = new ZipArchiveOutputStream(dest.toFile());
+            out.setMethod(ZipOutputStream.DEFLATED);
+            if (null != options.getCompressionLevel()) {
+                out.setLevel(options.getCompressionLevel());
+            }
+            return out;
+        }
+
+        OutputStream os = Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING);
+        switch (type) {
+            case TAR:
+                break;
+            case TGZ:
+            case TAR_GZ:
+                os = gzip(os, options);
+                break;
+            case TBZ2:
+            case TAR_BZ2:
+                os = bzip2(os, options);
+                break;
+            case TXZ:
+            case TAR_XZ:
+                os = xz(os, options);
+                break;
+            default:
+                os.close();
+                throw new IllegalArgumentException("Unsupported archive type " + type);
+        }
+
+        TarArchiveOutputStream out = new TarArchiveOutputStream(os);
         out.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-        Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                String entryName = src.relativize(file).toString();
-                File inputFile = file.toFile();
-                TarArchiveEntry archiveEntry = (TarArchiveEntry) out.createArchiveEntry(inputFile, entryName);
+        return out;
+    }
 
-                if (inputFile.isFile() && Files.isExecutable(file)) {
-                    archiveEntry.setMode(0100755);
-                }
+    private static OutputStream gzip(OutputStream out, ArchiveOptions options) throws IOException {
+        int level = null != options.getCompressionLevel() ? options.getCompressionLevel() : Deflater.DEFAULT_COMPRESSION;
+        ParallelCompressorOutputStream.StreamFactory factory = os -> {
+            GzipParameters parameters = new GzipParameters();
+            parameters.setCompressionLevel(level);
+            return new GzipCompressorOutputStream(os, parameters);
+        };
 
-                out.putArchiveEntry(archiveEntry);
+        return compress(out, options, GZIP_BLOCK_SIZE, GZIP_ENCODER_MEMORY, factory);
+    }
 
-                if (inputFile.isFile()) {
-                    out.write(Files.readAllBytes(file));
-                }
+    private static OutputStream bzip2(OutputStream out, ArchiveOptions options) throws IOException {
+        int level = null != options.getCompressionLevel() ?
+            Math.max(BZip2CompressorOutputStream.MIN_BLOCKSIZE, options.getCompressionLevel()) :
+            BZip2CompressorOutputStream.MAX_BLOCKSIZE;
+        ParallelCompressorOutputStream.StreamFactory factory = os -> new BZip2CompressorOutputStream(os, level);
 
-                out.closeArchiveEntry();
+        // one input block per bzip2 block, as pbzip2 does
+        return compress(out, options, level * 100_000, 400_000L + level * 800_000L, factory);
+    }
 
-                return FileVisitResult.CONTINUE;
+    private static OutputStream xz(OutputStream out, ArchiveOptions options) throws IOException {
+        LZMA2Options lzma2Options;
+        try {
+            lzma2Options = null != options.getCompressionLevel() ?
+                new LZMA2Options(options.getCompressionLevel()) : new LZMA2Options();
+        } catch (UnsupportedOptionsException e) {
+            throw new IOException(e);
+        }
+        ParallelCompressorOutputStream.StreamFactory factory = os -> new XZOutputStream(os, lzma2Options);
+
+        // same block size as xz --threads, a smaller block would not fill the dictionary
+        int blockSize = Math.max(lzma2Options.getDictSize() * 3, GZIP_BLOCK_SIZE);
+        return compress(out, options, blockSize, lzma2Options.getEncoderMemoryUsage() * 1024L, factory);
+    }
+
+    private static OutputStream compress(OutputStream out, ArchiveOptions options, int blockSize, long encoderMemory,
+                                         ParallelCompressorOutputStream.StreamFactory factory) throws IOException {
+        // every thread holds an input block, its compressed output and the encoder state
+        int threads = options.resolveCompressionThreads(2L * blockSize + encoderMemory);
+        if (threads < 2) {
+            return factory.create(out);
+        }
+
+        return new ParallelCompressorOutputStream(out, threads, blockSize, ParallelCompressorOutputStream.of(factory));
+    }
+
+    /**
+     * Streams the contents of a file into an archive entry using the given buffer, keeping memory
+     * usage constant regardless of the size of the file.
+     */
+    static void copy(Path file, OutputStream out, ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                buffer.clear();
             }
-        });
+        }
     }
 
     public static void unpackArchive(Path src, Path dest) throws IOException {
@@ -302,13 +522,13 @@ public final class FileUtils {
         switch (fileType) {
             case TGZ:
             case TAR_GZ:
-                return new GzipCompressorInputStream(in);
+                return new GzipCompressorInputStream(in, true);
             case TBZ2:
             case TAR_BZ2:
-                return new BZip2CompressorInputStream(in);
+                return new BZip2CompressorInputStream(in, true);
             case TXZ:
             case TAR_XZ:
-                return new XZCompressorInputStream(in);
+                return new XZCompressorInputStream(in, true);
         }
 
         return null;
@@ -650,6 +870,20 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * Creates {@code dest} as a hard link to {@code src}, falling back to a regular copy when
+     * the file store does not support hard links or both paths live on different file stores.
+     * The linked file shares its contents with {@code src}, it must not be modified in place.
+     */
+    public static void linkOrCopy(Path src, Path dest) throws IOException {
+        Files.deleteIfExists(dest);
+        try {
+            Files.createLink(dest, src);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(src, dest, REPLACE_EXISTING);
+        }
+    }
+
     public static boolean copyFilesRecursive(JReleaserLogger logger, Path source, Path target) throws IOException {
         return copyFilesRecursive(logger, source, target, null);
     }
@@ -746,4 +980,150 @@ public final class FileUtils {
             return CONTINUE;
         }
     }
+
+    private static final class ArchiveChunk {
+        private static final ArchiveChunk CLOSE_ENTRY = new ArchiveChunk(null, null, 0);
+        private static final ArchiveChunk END = new ArchiveChunk(null, null, 0);
+
+        private final Path file;
+        private final byte[] data;
+        private final int length;
+
+        private ArchiveChunk(Path file, byte[] data, int length) {
+            this.file = file;
+            this.data = data;
+            this.length = length;
+        }
+
+        private static ArchiveChunk entry(Path file) {
+            return new ArchiveChunk(file, null, 0);
+        }
+
+        private static ArchiveChunk data(byte[] data, int length) {
+            return new ArchiveChunk(null, data, length);
+        }
+    }
+
+    private static final class ArchiveWriter implements Runnable {
+        // bounds memory to a few chunks per archive, the slowest encoder sets the pace
+        private final BlockingQueue<ArchiveChunk> queue = new ArrayBlockingQueue<>(16);
+        private final Path src;
+        private final Path dest;
+        private final FileType type;
+        private final ArchiveOptions options;
+        private volatile boolean finished;
+        private IOException failure;
+
+        private ArchiveWriter(Path src, Path dest, FileType type, ArchiveOptions options) {
+            this.src = src;
+            this.dest = dest;
+            this.type = type;
+            this.options = options;
+        }
+
+        @Override
+        public void run() {
+            try (ArchiveOutputStream out = createArchiveOutputStream(dest, type, options)) {
+                for (ArchiveChunk chunk = queue.take(); chunk != ArchiveChunk.END; chunk = queue.take()) {
+                    if (chunk == ArchiveChunk.CLOSE_ENTRY) {
+                        out.closeArchiveEntry();
+                    } else if (null != chunk.file) {
+                        putArchiveEntry(src, chunk.file, out, options);
+                    } else {
+                        out.write(chunk.data, 0, chunk.length);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new InterruptedIOException(e.getMessage());
+            } catch (Throwable e) {
+                // errors are reported as well, a writer must never die without leaving a failure behind
+                failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            } finally {
+                finished = true;
+            }
+        }
+    }
+
+    /**
+     * Settings applied when creating archives.
+     */
+    public static final class ArchiveOptions {
+        static final int MAX_AUTO_COMPRESSION_THREADS = 4;
+        // 1980-01-01T00:00:00Z, the earliest time a zip entry can store
+        static final long DEFAULT_TIMESTAMP = 315532800L;
+
+        private Integer compressionLevel;
+        private Integer compressionThreads;
+        private boolean reproducible;
+        private Long timestamp;
+
+        /**
+         * Compression level, from 0 to 9. Uses the default of each format when {@code null}.
+         */
+        public Integer getCompressionLevel() {
+            return compressionLevel;
+        }
+
+        public ArchiveOptions withCompressionLevel(Integer compressionLevel) {
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        /**
+         * Number of threads used to compress tgz, txz and tbz2 archives. Zero picks a value from the
+         * available processors, capped at {@value #MAX_AUTO_COMPRESSION_THREADS} and by the maximum
+         * heap size, {@code null} or 1 compresses on the calling thread.
+         */
+        public Integer getCompressionThreads() {
+            return compressionThreads;
+        }
+
+        public ArchiveOptions withCompressionThreads(Integer compressionThreads) {
+            this.compressionThreads = compressionThreads;
+            return this;
+        }
+
+        /**
+         * Whether entries are sorted by name and their owner, permissions and timestamps are normalized,
+         * so that the same inputs always produce the same bytes.
+         */
+        public boolean isReproducible() {
+            return reproducible;
+        }
+
+        public ArchiveOptions withReproducible(boolean reproducible) {
+            this.reproducible = reproducible;
+            return this;
+        }
+
+        /**
+         * Timestamp given to every entry in reproducible mode, in seconds since the epoch, such as
+         * {@code SOURCE_DATE_EPOCH}. Uses 1980-01-01T00:00:00Z when {@code null}.
+         */
+        public Long getTimestamp() {
+            return timestamp;
+        }
+
+        public ArchiveOptions withTimestamp(Long timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        long resolveEntryTime() {
+            // file times depend on checkout and machine, never let them leak into the archive
+            return (null != timestamp ? timestamp : DEFAULT_TIMESTAMP) * 1000L;
+        }
+
+        int resolveCompressionThreads(long bytesPerThread) {
+            if (null == compressionThreads) return 1;
+            if (compressionThreads > 0) return compressionThreads;
+
+            // xz needs 100MB+ per thread, do not let the core count alone decide on large machines
+            long budget = Runtime.getRuntime().maxMemory() / 4;
+            long byMemory = Math.max(1L, budget / Math.max(1L, bytesPerThread));
+            int byProcessors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_AUTO_COMPRESSION_THREADS);
+            return (int) Math.min(byProcessors, byMemory);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits its input into fixed size blocks and compresses each block concurrently as an independent
+ * member (gzip), stream (xz) or stream (bzip2). Compressed blocks are written in input order, the
+ * result is a concatenation of valid members that standard decompressors read as a single payload.
+ * <p>
+ * At most {@code threads} blocks are held in memory at any given time.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+final class ParallelCompressorOutputStream extends OutputStream {
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final OutputStream out;
+    private final int threads;
+    private final BlockCompressor compressor;
+    private final ExecutorService executor;
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    private byte[] block;
+    private int count;
+    private boolean written;
+    private boolean closed;
+
+    ParallelCompressorOutputStream(OutputStream out, int threads, int blockSize, BlockCompressor compressor) {
+        this.out = out;
+        this.threads = threads;
+        this.compressor = compressor;
+        this.block = new byte[blockSize];
+        int pool = POOL_COUNTER.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "jreleaser-compress-" + pool + "-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int n = Math.min(len, block.length - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == block.length) {
+                submit();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // blocks are only emitted when full, flushing early would shrink them and hurt the ratio
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        try {
+            // an empty input still needs one member to be a valid compressed file
+            if (count > 0 || !written) {
+                submit();
+            }
+            while (!pending.isEmpty()) {
+                drain();
+            }
+            out.flush();
+        } finally {
+            executor.shutdownNow();
+            out.close();
+        }
+    }
+
+    private void submit() throws IOException {
+        byte[] data = block;
+        int length = count;
+        pending.add(executor.submit(() -> compressor.compress(data, length)));
+        written = true;
+        block = new byte[data.length];
+        count = 0;
+
+        if (pending.size() >= threads) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        Future<byte[]> future = pending.poll();
+        try {
+            out.write(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+    }
+
+    @FunctionalInterface
+    interface BlockCompressor {
+        byte[] compress(byte[] data, int length) throws IOException;
+    }
+
+    static BlockCompressor of(StreamFactory factory) {
+        return (data, length) -> {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(length / 2, 64));
+            try (OutputStream os = factory.create(bytes)) {
+                os.write(data, 0, length);
+            }
+            return bytes.toByteArray();
+        };
+    }
+
+    @FunctionalInterface
+    interface StreamFactory {
+        OutputStream create(OutputStream out) throws IOException;
+    }
+}
@@ -278,7 +278,7 @@ public final class PlatformUtils {
 
     public static void resolveCurrentPlatform(JReleaserLogger logger) {
         String resolved = getCurrent() + "-" + getDetectedArch();
-        String platform = System.getenv().getOrDefault(JRELEASER_PLATFORM_OVERRIDE,
+        String platform = Env.getEnvironment().getOrDefault(JRELEASER_PLATFORM_OVERRIDE,
             System.getProperty(JRELEASER_PLATFORM_OVERRIDE, resolved));
 
         if (!isSupported(platform)) {
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Spaces out calls made to the same remote service.
+ * <p>
+ * Limiters are shared per service name, every caller that posts to the same service waits
+ * on the same schedule regardless of the thread it runs on. The minimum interval between
+ * two permits is read from {@code <SERVICE>_RATE_INTERVAL} (milliseconds), falling back to
+ * {@code RATE_INTERVAL}, see {@link Env#resolve(String, String)}. A missing or non positive
+ * value disables limiting.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class RateLimiter {
+    private static final String RATE_INTERVAL = "RATE_INTERVAL";
+    private static final Map<String, RateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final long intervalNanos;
+    private long next;
+
+    RateLimiter(long intervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, intervalMillis));
+    }
+
+    public static RateLimiter of(String service) {
+        return LIMITERS.computeIfAbsent(service.toLowerCase(Locale.ENGLISH),
+            k -> new RateLimiter(resolveInterval(k)));
+    }
+
+    /**
+     * Blocks until the next permit becomes available.
+     */
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) return;
+
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, next);
+            next = slot + intervalNanos;
+            wait = slot - now;
+        }
+
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private static long resolveInterval(String service) {
+        String value = Env.resolve(service.toUpperCase(Locale.ENGLISH) + "_" + RATE_INTERVAL, "");
+        if (isBlank(value)) value = Env.resolve(RATE_INTERVAL, "");
+        if (isBlank(value)) return 0;
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
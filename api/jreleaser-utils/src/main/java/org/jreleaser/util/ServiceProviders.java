@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Discovers service providers once per service type and class loader.
+ * <p>
+ * {@link ServiceLoader} scans {@code META-INF/services} and instantiates every provider on each
+ * call. Providers looked up through this class are resolved on first use and kept for as long
+ * as their service type is reachable, hence they must be stateless (e.g. factories).
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ServiceProviders {
+    private static final ClassValue<Map<ClassLoader, List<?>>> PROVIDERS = new ClassValue<Map<ClassLoader, List<?>>>() {
+        @Override
+        protected Map<ClassLoader, List<?>> computeValue(Class<?> type) {
+            return new WeakHashMap<>();
+        }
+    };
+
+    private ServiceProviders() {
+        // noop
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <S> List<S> providers(Class<S> service, ClassLoader classLoader) {
+        Map<ClassLoader, List<?>> cache = PROVIDERS.get(service);
+        synchronized (cache) {
+            return (List<S>) cache.computeIfAbsent(classLoader, k -> {
+                List<S> list = new ArrayList<>();
+                ServiceLoader.load(service, classLoader).forEach(list::add);
+                return Collections.unmodifiableList(list);
+            });
+        }
+    }
+
+    public static <S> Optional<S> find(Class<S> service, ClassLoader classLoader, Predicate<S> filter) {
+        return providers(service, classLoader).stream()
+            .filter(filter)
+            .findFirst();
+    }
+}
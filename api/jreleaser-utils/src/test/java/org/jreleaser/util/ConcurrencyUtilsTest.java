@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.jreleaser.util.ConcurrencyUtils.task;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ConcurrencyUtilsTest {
+    @Test
+    public void tasksInSameGroupRunSerially() {
+        // given:
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        List<ConcurrencyUtils.GroupedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String name = "tap-" + i;
+            tasks.add(task("tap", () -> {
+                if (running.incrementAndGet() > 1) overlaps.incrementAndGet();
+                sleep(10);
+                order.add(name);
+                running.decrementAndGet();
+            }));
+        }
+
+        // when:
+        List<Throwable> failures = ConcurrencyUtils.executeGrouped("test", 4, tasks);
+
+        // then:
+        assertThat(overlaps.get(), equalTo(0));
+        assertThat(order, contains("tap-0", "tap-1", "tap-2", "tap-3", "tap-4"));
+        failures.forEach(f -> assertThat(f, nullValue()));
+    }
+
+    @Test
+    public void failuresAreReportedInTaskOrder() {
+        // given:
+        List<ConcurrencyUtils.GroupedTask> tasks = asList(
+            task("a", () -> {
+                sleep(50);
+                throw new IllegalStateException("a");
+            }),
+            task("b", () -> {
+            }),
+            task("c", () -> {
+                throw new IllegalArgumentException("c");
+            }));
+
+        // when:
+        List<Throwable> failures = ConcurrencyUtils.executeGrouped("test", 3, tasks);
+
+        // then:
+        assertThat(failures.get(0), instanceOf(IllegalStateException.class));
+        assertThat(failures.get(1), nullValue());
+        assertThat(failures.get(2), instanceOf(IllegalArgumentException.class));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -18,21 +18,42 @@
 package org.jreleaser.util;
 
 import org.jreleaser.test.Platform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * @author Andres Almiray
  * @since 1.0.0
  */
 public class FileUtilsTests {
+    @TempDir
+    Path tmp;
+
     @ParameterizedTest
     @EnumSource(value = FileType.class,
         names = {"TAR", "TAR_BZ2", "TAR_GZ", "TAR_XZ", "TBZ2", "TGZ", "TXZ", "ZIP"})
@@ -55,4 +76,284 @@ public class FileUtilsTests {
         assertTrue(() -> Files.exists(executable), "executable exists");
         assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
     }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class, names = {"TAR", "TGZ", "ZIP"})
+    public void archiveManySmallAndLargeFiles(FileType fileType) throws IOException {
+        // given:
+        Path src = tmp.resolve("src").resolve("app-1.0.0");
+        Files.createDirectories(src.resolve("lib"));
+        for (int i = 0; i < 100; i++) {
+            Path dir = src.resolve("conf").resolve("d" + (i % 10));
+            Files.createDirectories(dir);
+            Files.write(dir.resolve("file" + i + ".txt"), ("content " + i).getBytes());
+        }
+        Path modules = src.resolve("lib").resolve("modules");
+        // spans several copy buffers and ends with a partial one
+        writeLargeFile(modules, 4 * FileUtils.COPY_BUFFER_SIZE + 123);
+        Path archive = tmp.resolve("app-1.0.0" + fileType.extension());
+
+        // when:
+        switch (fileType) {
+            case TAR:
+                FileUtils.tar(src.getParent(), archive);
+                break;
+            case TGZ:
+                FileUtils.tgz(src.getParent(), archive);
+                break;
+            default:
+                FileUtils.zip(src.getParent(), archive);
+        }
+        Path out = tmp.resolve("out");
+        FileUtils.unpackArchive(archive, out, false);
+
+        // then:
+        Path unpacked = out.resolve("app-1.0.0");
+        assertEquals(Files.size(modules), Files.size(unpacked.resolve("lib").resolve("modules")));
+        assertEquals(ChecksumUtils.checksum(Algorithm.SHA_256, modules),
+            ChecksumUtils.checksum(Algorithm.SHA_256, unpacked.resolve("lib").resolve("modules")));
+        for (int i = 0; i < 100; i += 33) {
+            Path file = Paths.get("conf", "d" + (i % 10), "file" + i + ".txt");
+            assertArrayEquals(Files.readAllBytes(src.resolve(file)), Files.readAllBytes(unpacked.resolve(file)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class, names = {"TGZ", "TXZ", "TBZ2"})
+    public void compressWithMultipleThreads(FileType fileType) throws IOException {
+        // given:
+        Path src = tmp.resolve("src").resolve("app-1.0.0");
+        Files.createDirectories(src);
+        Path data = src.resolve("data.bin");
+        writeLargeFile(data, 5 * 1024 * 1024 + 17);
+        Files.write(src.resolve("README"), "readme".getBytes());
+        Path archive = tmp.resolve("app-1.0.0" + fileType.extension());
+        FileUtils.ArchiveOptions options = new FileUtils.ArchiveOptions()
+            .withCompressionLevel(1)
+            .withCompressionThreads(4);
+
+        // when:
+        switch (fileType) {
+            case TGZ:
+                FileUtils.tgz(src.getParent(), archive, options);
+                break;
+            case TXZ:
+                FileUtils.xz(src.getParent(), archive, options);
+                break;
+            default:
+                FileUtils.bz2(src.getParent(), archive, options);
+        }
+        Path out = tmp.resolve("out");
+        FileUtils.unpackArchive(archive, out, false);
+
+        // then:
+        Path unpacked = out.resolve("app-1.0.0");
+        assertEquals(ChecksumUtils.checksum(Algorithm.SHA_256, data),
+            ChecksumUtils.checksum(Algorithm.SHA_256, unpacked.resolve("data.bin")));
+        assertArrayEquals("readme".getBytes(), Files.readAllBytes(unpacked.resolve("README")));
+    }
+
+    @Test
+    public void automaticCompressionThreadsAreCapped() {
+        // given:
+        FileUtils.ArchiveOptions auto = new FileUtils.ArchiveOptions().withCompressionThreads(0);
+        FileUtils.ArchiveOptions explicit = new FileUtils.ArchiveOptions().withCompressionThreads(8);
+
+        // expect:
+        int threads = auto.resolveCompressionThreads(1L);
+        assertTrue(threads >= 1 && threads <= FileUtils.ArchiveOptions.MAX_AUTO_COMPRESSION_THREADS);
+        assertEquals(1, auto.resolveCompressionThreads(Runtime.getRuntime().maxMemory()));
+        assertEquals(8, explicit.resolveCompressionThreads(Runtime.getRuntime().maxMemory()));
+        assertEquals(1, new FileUtils.ArchiveOptions().resolveCompressionThreads(1L));
+    }
+
+    @Test
+    public void archiveMultipleFormatsFromSingleScan() throws IOException {
+        // given:
+        Path src = tmp.resolve("src").resolve("app-1.0.0");
+        Files.createDirectories(src.resolve("bin"));
+        for (int i = 0; i < 50; i++) {
+            Files.write(src.resolve("file" + i + ".txt"), ("content " + i).getBytes());
+        }
+        writeLargeFile(src.resolve("bin").resolve("data.bin"), 3 * 1024 * 1024 + 5);
+        Map<FileType, Path> archives = new LinkedHashMap<>();
+        for (FileType type : new FileType[]{FileType.ZIP, FileType.TAR, FileType.TGZ, FileType.TXZ, FileType.TBZ2}) {
+            archives.put(type, tmp.resolve("all-1.0.0" + type.extension()));
+        }
+
+        // when:
+        FileUtils.archive(src.getParent(), archives, new FileUtils.ArchiveOptions());
+
+        // then:
+        for (Map.Entry<FileType, Path> e : archives.entrySet()) {
+            Path single = tmp.resolve("single-1.0.0" + e.getKey().extension());
+            FileUtils.archive(src.getParent(), Collections.singletonMap(e.getKey(), single), new FileUtils.ArchiveOptions());
+            assertArrayEquals(Files.readAllBytes(single), Files.readAllBytes(e.getValue()), e.getKey().name());
+        }
+    }
+
+    @Test
+    public void failedArchiveDoesNotBlockTheOthers() throws IOException {
+        // given:
+        Path src = tmp.resolve("src").resolve("app-1.0.0");
+        Files.createDirectories(src);
+        writeLargeFile(src.resolve("data.bin"), 3 * 1024 * 1024 + 5);
+        Path blocker = tmp.resolve("blocker");
+        Files.write(blocker, new byte[0]);
+        Map<FileType, Path> archives = new LinkedHashMap<>();
+        archives.put(FileType.ZIP, blocker.resolve("app-1.0.0.zip"));
+        archives.put(FileType.TGZ, tmp.resolve("app-1.0.0.tgz"));
+
+        // when:
+        IOException failure = assertTimeoutPreemptively(Duration.ofSeconds(60), () ->
+            assertThrows(IOException.class, () -> FileUtils.archive(src.getParent(), archives, new FileUtils.ArchiveOptions())));
+
+        // then:
+        assertNotNull(failure);
+        assertTrue(Files.size(tmp.resolve("app-1.0.0.tgz")) > 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class, names = {"TAR", "TGZ", "TXZ", "TBZ2", "ZIP"})
+    public void reproducibleArchivesAreByteIdentical(FileType fileType) throws IOException {
+        // files newer than the epoch
+        long now = System.currentTimeMillis();
+        assertReproducible(fileType, 1262304000L, now, now - 60_000L, 1262304000L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class, names = {"TAR", "TGZ", "TXZ", "TBZ2", "ZIP"})
+    public void reproducibleArchivesIgnoreFilesOlderThanTheEpoch(FileType fileType) throws IOException {
+        // 2005 and 2008 against an epoch in 2010
+        assertReproducible(fileType, 1262304000L, 1104537600000L, 1199145600000L, 1262304000L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class, names = {"TAR", "TGZ", "TXZ", "TBZ2", "ZIP"})
+    public void reproducibleArchivesWithoutEpochUseFixedTime(FileType fileType) throws IOException {
+        long now = System.currentTimeMillis();
+        assertReproducible(fileType, null, now, 1104537600000L, FileUtils.ArchiveOptions.DEFAULT_TIMESTAMP);
+    }
+
+    @Test
+    public void entriesAreStreamedThroughTheCopyBuffer() throws IOException {
+        // given:
+        Path file = tmp.resolve("modules");
+        writeLargeFile(file, 16 * FileUtils.COPY_BUFFER_SIZE + 123);
+        RecordingOutputStream out = new RecordingOutputStream();
+
+        // when:
+        FileUtils.copy(file, out, ByteBuffer.allocate(FileUtils.COPY_BUFFER_SIZE));
+
+        // then:
+        assertEquals(Files.size(file), out.total);
+        assertTrue(out.largestWrite <= FileUtils.COPY_BUFFER_SIZE, "largest write " + out.largestWrite);
+        assertTrue(out.writes >= 17, "writes " + out.writes);
+    }
+
+    @Test
+    public void linkOrCopyHardLinksOnTheSameFileStore() throws IOException {
+        // given:
+        Path src = Files.write(tmp.resolve("app.jar"), new byte[]{1, 2, 3});
+        Path dest = Files.write(tmp.resolve("stale.jar"), new byte[]{4});
+
+        // when:
+        FileUtils.linkOrCopy(src, dest);
+
+        // then:
+        assertTrue(Files.isSameFile(src, dest), "dest is linked to src");
+    }
+
+    @Test
+    public void linkOrCopyCopiesAcrossFileStores() throws IOException {
+        // hard links cannot span file stores, /dev/shm is usually a tmpfs
+        Path shm = Paths.get("/dev/shm");
+        assumeTrue(Files.isDirectory(shm) && Files.isWritable(shm));
+        assumeFalse(Files.getFileStore(shm).equals(Files.getFileStore(tmp)));
+
+        // given:
+        Path src = Files.write(tmp.resolve("app.jar"), new byte[]{1, 2, 3});
+        Path other = Files.createTempDirectory(shm, "link");
+        Path dest = other.resolve("app.jar");
+
+        try {
+            // when:
+            FileUtils.linkOrCopy(src, dest);
+
+            // then:
+            assertFalse(Files.isSameFile(src, dest), "dest is a copy of src");
+            assertArrayEquals(Files.readAllBytes(src), Files.readAllBytes(dest));
+        } finally {
+            FileUtils.deleteFiles(other);
+        }
+    }
+
+    private void assertReproducible(FileType fileType, Long sourceDateEpoch, long firstTime, long secondTime,
+                                           long expectedTime) throws IOException {
+        // given:
+        Path first = createTree(tmp.resolve("first"), false, firstTime);
+        Path second = createTree(tmp.resolve("second"), true, secondTime);
+        Path archive1 = tmp.resolve("first" + fileType.extension());
+        Path archive2 = tmp.resolve("second" + fileType.extension());
+        FileUtils.ArchiveOptions options = new FileUtils.ArchiveOptions()
+            .withReproducible(true)
+            .withTimestamp(sourceDateEpoch);
+
+        // when:
+        FileUtils.archive(first, Collections.singletonMap(fileType, archive1), options);
+        FileUtils.archive(second, Collections.singletonMap(fileType, archive2), options);
+
+        // then:
+        assertArrayEquals(Files.readAllBytes(archive1), Files.readAllBytes(archive2));
+
+        if (fileType != FileType.ZIP) {
+            // zip entries store local time, only tar entries can be checked regardless of time zone
+            Path out = tmp.resolve("out");
+            FileUtils.unpackArchive(archive1, out, false);
+            assertEquals(expectedTime * 1000L, Files.getLastModifiedTime(out.resolve("app-1.0.0").resolve("LICENSE")).toMillis());
+        }
+    }
+
+    private static Path createTree(Path root, boolean reversed, long time) throws IOException {
+        Path app = root.resolve("app-1.0.0");
+        String[] names = {"LICENSE", "README.md", "bin/app", "lib/a.jar", "lib/b.jar", "lib/z/c.txt"};
+        for (int i = 0; i < names.length; i++) {
+            String name = names[reversed ? names.length - 1 - i : i];
+            Path file = app.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.write(file, name.getBytes());
+            Files.setLastModifiedTime(file, FileTime.fromMillis(time - (reversed ? 5000L : 0L) * i));
+        }
+        return root;
+    }
+
+    private static class RecordingOutputStream extends OutputStream {
+        private long total;
+        private int writes;
+        private int largestWrite;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // contents are dropped, only the shape of the writes matters
+            total += len;
+            writes++;
+            largestWrite = Math.max(largestWrite, len);
+        }
+    }
+
+    private static void writeLargeFile(Path file, long size) throws IOException {
+        Random random = new Random(size);
+        byte[] chunk = new byte[8192];
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (long written = 0; written < size; written += chunk.length) {
+                random.nextBytes(chunk);
+                out.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+    }
 }
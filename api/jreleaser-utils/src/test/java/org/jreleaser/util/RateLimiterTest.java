@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class RateLimiterTest {
+    @Test
+    public void permitsAreSpacedAcrossThreads() throws Exception {
+        // given:
+        RateLimiter limiter = new RateLimiter(50);
+        Runnable acquire = () -> {
+            try {
+                limiter.acquire();
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // when:
+        long start = System.nanoTime();
+        Thread t1 = new Thread(acquire);
+        Thread t2 = new Thread(acquire);
+        t1.start();
+        t2.start();
+        t1.join();
+        t2.join();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then: 4 permits need at least 3 intervals
+        assertThat(elapsed, greaterThanOrEqualTo(150L));
+    }
+
+    @Test
+    public void zeroIntervalDoesNotWait() throws Exception {
+        // given:
+        RateLimiter limiter = new RateLimiter(0);
+
+        // when:
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then:
+        assertThat(elapsed, lessThan(50L));
+    }
+
+    @Test
+    public void limitersAreSharedPerService() {
+        assertThat(RateLimiter.of("Twitter"), sameInstance(RateLimiter.of("twitter")));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.spi.CharsetProvider;
+import java.nio.file.spi.FileSystemProvider;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ServiceProvidersTest {
+    @Test
+    public void providersAreDiscoveredOnce() {
+        // given:
+        ClassLoader classLoader = ServiceProvidersTest.class.getClassLoader();
+
+        // when:
+        List<FileSystemProvider> first = ServiceProviders.providers(FileSystemProvider.class, classLoader);
+        List<FileSystemProvider> second = ServiceProviders.providers(FileSystemProvider.class, classLoader);
+
+        // then:
+        assertThat(second, sameInstance(first));
+        if (!first.isEmpty()) {
+            assertThat(second.get(0), sameInstance(first.get(0)));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> first.add(null));
+    }
+
+    @Test
+    public void findReturnsEmptyWhenNoProviderMatches() {
+        assertThat(ServiceProviders.find(CharsetProvider.class, ServiceProvidersTest.class.getClassLoader(), p -> false).isPresent(),
+            equalTo(false));
+    }
+}
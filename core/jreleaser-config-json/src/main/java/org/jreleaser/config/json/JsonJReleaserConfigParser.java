@@ -18,6 +18,7 @@
 package org.jreleaser.config.json;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.jreleaser.config.JReleaserConfigParser;
 import org.jreleaser.model.internal.JReleaserModel;
 import org.kordamp.jipsy.annotations.ServiceProviderFor;
@@ -36,6 +37,10 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 @ServiceProviderFor(JReleaserConfigParser.class)
 public class JsonJReleaserConfigParser implements JReleaserConfigParser {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader MODEL_READER = MAPPER.readerFor(JReleaserModel.class);
+    private static final ObjectReader PROPERTIES_READER = MAPPER.readerFor(Map.class);
+
     @Override
     public String getPreferredFileExtension() {
         return "json";
@@ -58,20 +63,16 @@ public class JsonJReleaserConfigParser implements JReleaserConfigParser {
 
     @Override
     public JReleaserModel parse(InputStream inputStream) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(inputStream, JReleaserModel.class);
+        return MODEL_READER.readValue(inputStream);
     }
 
     @Override
     public <T> T load(Class<T> type, InputStream inputStream) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(inputStream, type);
+        return MAPPER.readValue(inputStream, type);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Map<String, String> properties(InputStream inputStream) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(inputStream, Map.class);
+        return PROPERTIES_READER.readValue(inputStream);
     }
 }
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.config.toml;
 
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.toml.TomlMapper;
 import org.jreleaser.config.JReleaserConfigParser;
 import org.jreleaser.model.internal.JReleaserModel;
@@ -36,6 +37,10 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 @ServiceProviderFor(JReleaserConfigParser.class)
 public class TomlJReleaserConfigParser implements JReleaserConfigParser {
+    private static final TomlMapper MAPPER = TomlMapper.builder().build();
+    private static final ObjectReader MODEL_READER = MAPPER.readerFor(JReleaserModel.class);
+    private static final ObjectReader PROPERTIES_READER = MAPPER.readerFor(Map.class);
+
     @Override
     public String getPreferredFileExtension() {
         return "toml";
@@ -58,20 +63,16 @@ public class TomlJReleaserConfigParser implements JReleaserConfigParser {
 
     @Override
     public JReleaserModel parse(InputStream inputStream) throws IOException {
-        TomlMapper mapper = TomlMapper.builder().build();
-        return mapper.readValue(inputStream, JReleaserModel.class);
+        return MODEL_READER.readValue(inputStream);
     }
 
     @Override
     public <T> T load(Class<T> type, InputStream inputStream) throws IOException {
-        TomlMapper mapper = TomlMapper.builder().build();
-        return mapper.readValue(inputStream, type);
+        return MAPPER.readValue(inputStream, type);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Map<String, String> properties(InputStream inputStream) throws IOException {
-        TomlMapper mapper = TomlMapper.builder().build();
-        return mapper.readValue(inputStream, Map.class);
+        return PROPERTIES_READER.readValue(inputStream);
     }
 }
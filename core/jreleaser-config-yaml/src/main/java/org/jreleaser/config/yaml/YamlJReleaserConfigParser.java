@@ -17,6 +17,7 @@
  */
 package org.jreleaser.config.yaml;
 
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.github.sbaudoin.yamllint.Format;
 import com.github.sbaudoin.yamllint.LintProblem;
@@ -27,11 +28,14 @@ import org.jreleaser.config.JReleaserConfigParser;
 import org.jreleaser.model.internal.JReleaserModel;
 import org.kordamp.jipsy.annotations.ServiceProviderFor;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.ResourceBundle;
 
 import static java.lang.System.lineSeparator;
 import static java.util.Arrays.asList;
@@ -44,6 +48,14 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 @ServiceProviderFor(JReleaserConfigParser.class)
 public class YamlJReleaserConfigParser implements JReleaserConfigParser {
+    // mappers are thread safe and keep bean metadata, share them instead of rediscovering the model per call
+    private static final YAMLMapper MAPPER = YAMLMapper.builder().build();
+    private static final ObjectReader MODEL_READER = MAPPER.readerFor(JReleaserModel.class);
+    private static final ObjectReader PROPERTIES_READER = MAPPER.readerFor(Map.class);
+    // filtered at build time, results recorded by a previous linter version are discarded
+    private static final String YAML_LINT_VERSION = "yamllint-" + ResourceBundle
+        .getBundle("org.jreleaser.config.yaml.yamllint")
+        .getString("yamllint.version");
     private static final String YAML_LINT_CONFIG = String.join(lineSeparator(), asList(
         "---",
         "rules:",
@@ -69,6 +81,11 @@ public class YamlJReleaserConfigParser implements JReleaserConfigParser {
 
     @Override
     public void validate(Path configFile) throws IOException {
+        validate(configFile, Files.readAllBytes(configFile));
+    }
+
+    @Override
+    public void validate(Path configFile, byte[] content) throws IOException {
         YamlLintConfig config = null;
         try {
             config = new YamlLintConfig(YAML_LINT_CONFIG);
@@ -76,7 +93,7 @@ public class YamlJReleaserConfigParser implements JReleaserConfigParser {
             return;
         }
 
-        List<LintProblem> problems = Linter.run(config, configFile.toFile());
+        List<LintProblem> problems = Linter.run(new ByteArrayInputStream(content), config, configFile.toFile());
 
         if (!problems.isEmpty()) {
             throw new IOException(Format.format(configFile.toAbsolutePath().toString(),
@@ -85,22 +102,23 @@ public class YamlJReleaserConfigParser implements JReleaserConfigParser {
         }
     }
 
+    @Override
+    public String getValidationFingerprint() {
+        return YAML_LINT_VERSION + lineSeparator() + YAML_LINT_CONFIG;
+    }
+
     @Override
     public JReleaserModel parse(InputStream inputStream) throws IOException {
-        YAMLMapper mapper = YAMLMapper.builder().build();
-        return mapper.readValue(inputStream, JReleaserModel.class);
+        return MODEL_READER.readValue(inputStream);
     }
 
     @Override
     public <T> T load(Class<T> type, InputStream inputStream) throws IOException {
-        YAMLMapper mapper = YAMLMapper.builder().build();
-        return mapper.readValue(inputStream, type);
+        return MAPPER.readValue(inputStream, type);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Map<String, String> properties(InputStream inputStream) throws IOException {
-        YAMLMapper mapper = YAMLMapper.builder().build();
-        return mapper.readValue(inputStream, Map.class);
+        return PROPERTIES_READER.readValue(inputStream);
     }
 }
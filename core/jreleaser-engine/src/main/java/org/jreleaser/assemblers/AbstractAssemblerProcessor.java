@@ -18,15 +18,20 @@
 package org.jreleaser.assemblers;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Archive;
 import org.jreleaser.model.Constants;
+import org.jreleaser.model.api.JReleaserModel;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.Assembler;
+import org.jreleaser.model.internal.common.ArchiveOptions;
 import org.jreleaser.model.internal.common.FileSet;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
 import org.jreleaser.model.spi.assemble.AssemblerProcessor;
 import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
@@ -40,6 +45,7 @@ import java.util.Set;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Collections.singletonMap;
 import static org.jreleaser.mustache.MustacheUtils.applyTemplates;
 import static org.jreleaser.util.FileUtils.createDirectoriesWithFullAccess;
 import static org.jreleaser.util.FileUtils.grantFullAccess;
@@ -52,6 +58,8 @@ import static org.jreleaser.util.StringUtils.quote;
  * @since 0.2.0
  */
 abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.api.assemble.Assembler, S extends Assembler<A>> implements AssemblerProcessor<A, S> {
+    private static final String SOURCE_DATE_EPOCH = "SOURCE_DATE_EPOCH";
+
     protected final JReleaserContext context;
     protected S assembler;
 
@@ -189,6 +197,39 @@ abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.api.asse
         }
     }
 
+    protected void packArchive(Path src, Path dest, Archive.Format format, ArchiveOptions options) throws IOException {
+        packArchives(src, singletonMap(format, dest), options);
+    }
+
+    protected void packArchives(Path src, Map<Archive.Format, Path> destinations, ArchiveOptions options) throws IOException {
+        Map<FileType, Path> archives = new LinkedHashMap<>();
+        destinations.forEach((format, dest) -> archives.put(FileType.valueOf(format.name()), dest));
+
+        FileUtils.ArchiveOptions archiveOptions = options.toOptions();
+        if (archiveOptions.isReproducible()) {
+            archiveOptions.withTimestamp(resolveSourceDateEpoch());
+        }
+        FileUtils.archive(src, archives, archiveOptions);
+    }
+
+    private Long resolveSourceDateEpoch() {
+        String sourceDateEpoch = Env.getEnvironment().get(SOURCE_DATE_EPOCH);
+        if (isNotBlank(sourceDateEpoch)) {
+            try {
+                return Long.parseLong(sourceDateEpoch.trim());
+            } catch (NumberFormatException e) {
+                context.getLogger().warn(RB.$("assembler.invalid.source.date.epoch"), sourceDateEpoch);
+            }
+        }
+
+        // fall back to the time of the current commit, stable for a given source tree
+        JReleaserModel.Commit commit = context.getModel().getCommit();
+        if (null != commit && commit.getTimestamp() > 0) {
+            return commit.getTimestamp();
+        }
+        return null;
+    }
+
     protected String maybeQuote(String str) {
         return isWindows() ? quote(str) : str;
     }
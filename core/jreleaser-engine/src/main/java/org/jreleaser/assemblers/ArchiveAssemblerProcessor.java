@@ -28,6 +28,7 @@ import org.jreleaser.util.FileUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -57,37 +58,16 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<org.jr
         context.getLogger().debug(RB.$("assembler.copy.files"), context.relativizeToBasedir(archiveDirectory));
         copyFileSets(context, archiveDirectory);
 
-        // run archive x format
+        // all formats are built from a single pass over the work directory
+        Map<Archive.Format, Path> archives = new LinkedHashMap<>();
         for (Archive.Format format : assembler.getFormats()) {
-            archive(workDirectory, assembleDirectory, archiveName, format);
+            String finalArchiveName = archiveName + "." + format.extension();
+            context.getLogger().info("- {}", finalArchiveName);
+            archives.put(format, assembleDirectory.resolve(finalArchiveName));
         }
-    }
-
-    private void archive(Path workDirectory, Path assembleDirectory, String archiveName, Archive.Format format) throws AssemblerProcessingException {
-        String finalArchiveName = archiveName + "." + format.extension();
-        context.getLogger().info("- {}", finalArchiveName);
 
         try {
-            Path archiveFile = assembleDirectory.resolve(finalArchiveName);
-            switch (format) {
-                case ZIP:
-                    FileUtils.zip(workDirectory, archiveFile);
-                    break;
-                case TAR:
-                    FileUtils.tar(workDirectory, archiveFile);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(workDirectory, archiveFile);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(workDirectory, archiveFile);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(workDirectory, archiveFile);
-            }
+            packArchives(workDirectory, archives, assembler.getOptions());
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
         }
@@ -22,6 +22,9 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.JavaAssembler;
 import org.jreleaser.model.internal.common.Glob;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
 
 import java.io.File;
@@ -29,11 +32,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -72,6 +83,16 @@ public final class AssemblerUtils {
     }
 
     public static Set<Path> copyJars(JReleaserContext context, JavaAssembler<?> assembler, Path jarsDirectory, String platform) throws AssemblerProcessingException {
+        return copyJars(context, assembler, jarsDirectory, platform, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Copies the main jar and the jars matching the given platform into {@code jarsDirectory}.
+     * Resolved jar globs are stored in {@code resolvedJars}, which should live no longer than
+     * a single assembler invocation as files may change between invocations.
+     */
+    public static Set<Path> copyJars(JReleaserContext context, JavaAssembler<?> assembler, Path jarsDirectory, String platform,
+                                     Map<String, Set<Path>> resolvedJars) throws AssemblerProcessingException {
         Set<Path> paths = new LinkedHashSet<>();
 
         // resolve all first
@@ -83,18 +104,18 @@ public final class AssemblerUtils {
             boolean platformIsBlank = isBlank(platform) && isBlank(glob.getPlatform());
             boolean platformIsCompatible = isNotBlank(platform) && PlatformUtils.isCompatible(platform, glob.getPlatform());
             if (platformIsBlank || platformIsCompatible) {
-                glob.getResolvedArtifacts(context).stream()
-                    .map(artifact -> artifact.getResolvedPath(context, assembler))
-                    .forEach(paths::add);
+                paths.addAll(resolveJars(context, assembler, glob, resolvedJars));
             }
         }
 
-        // copy all next
+        // copy all next, jars are never modified once staged so they may share their contents
         try {
             Files.createDirectories(jarsDirectory);
             for (Path path : paths) {
+                Path target = jarsDirectory.resolve(path.getFileName());
+                if (Files.exists(target) && Files.isSameFile(path, target)) continue;
                 context.getLogger().debug(RB.$("assembler.copying"), path.getFileName());
-                Files.copy(path, jarsDirectory.resolve(path.getFileName()), REPLACE_EXISTING);
+                FileUtils.linkOrCopy(path, target);
             }
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_jars"), e);
@@ -103,6 +124,43 @@ public final class AssemblerUtils {
         return paths;
     }
 
+    private static Set<Path> resolveJars(JReleaserContext context, JavaAssembler<?> assembler, Glob glob,
+                                         Map<String, Set<Path>> resolvedJars) {
+        // universal and platform jars are staged from the same globs, walk the file system once per invocation
+        String key = glob.getDirectory() + "|" + glob.getPattern() + "|" + glob.getPlatform() + "|" + glob.getExtraProperties();
+        Set<Path> jars = resolvedJars.get(key);
+        if (null == jars) {
+            jars = glob.getResolvedArtifacts(context).stream()
+                .map(artifact -> artifact.getResolvedPath(context, assembler))
+                .collect(toCollection(LinkedHashSet::new));
+            resolvedJars.putIfAbsent(key, unmodifiableSet(jars));
+        }
+
+        return jars;
+    }
+
+    /**
+     * Computes a SHA-256 digest over the given values and the paths and contents of the given files.
+     * Jars that share a file name but live in different directories yield different digests.
+     */
+    static String digestInputs(List<String> values, Collection<Path> files) throws IOException {
+        StringBuilder b = new StringBuilder();
+        values.forEach(value -> b.append(value).append('\n'));
+
+        List<Path> sorted = files.stream()
+            .map(file -> file.toAbsolutePath().normalize())
+            .sorted(comparing(Path::toString))
+            .collect(toList());
+        for (Path file : sorted) {
+            b.append(file)
+                .append('=')
+                .append(ChecksumUtils.checksum(Algorithm.SHA_256, file))
+                .append('\n');
+        }
+
+        return ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(UTF_8));
+    }
+
     public static Path maybeAdjust(Path path) {
         if (PlatformUtils.isWindows()) {
             return Paths.get(path.toString().replace("/", File.separator));
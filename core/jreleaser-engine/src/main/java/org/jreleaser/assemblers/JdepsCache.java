@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.model.internal.JReleaserContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Persists the module names computed by {@code jdeps}, keyed by JDK version, jdeps settings and
+ * the digest of every jar that was inspected. Platforms that share the same set of jars resolve
+ * their modules once, subsequent runs skip jdeps entirely while the jars remain unchanged.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+final class JdepsCache {
+    private static final String KEY_MODULES = "modules";
+
+    private final Path cacheDirectory;
+
+    JdepsCache(JReleaserContext context) {
+        this.cacheDirectory = context.getOutputDirectory().resolve("caches").resolve("jdeps");
+    }
+
+    String key(String jdkVersion, List<String> settings, Collection<Path> jars) throws IOException {
+        List<String> values = new ArrayList<>();
+        values.add(jdkVersion);
+        values.addAll(settings);
+        return AssemblerUtils.digestInputs(values, jars);
+    }
+
+    Set<String> get(String key) {
+        Path file = cacheDirectory.resolve(key + ".properties");
+        if (!Files.exists(file)) return null;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            Properties props = new Properties();
+            props.load(in);
+            String modules = props.getProperty(KEY_MODULES);
+            if (isBlank(modules)) return null;
+            return Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(modules.split(","))));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    void put(String key, Set<String> moduleNames) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Properties props = new Properties();
+        props.setProperty(KEY_MODULES, String.join(",", new TreeSet<>(moduleNames)));
+
+        Path tmp = Files.createTempFile(cacheDirectory, key, ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            props.store(out, null);
+        }
+        try {
+            Files.move(tmp, cacheDirectory.resolve(key + ".properties"), ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, cacheDirectory.resolve(key + ".properties"), REPLACE_EXISTING);
+        }
+    }
+}
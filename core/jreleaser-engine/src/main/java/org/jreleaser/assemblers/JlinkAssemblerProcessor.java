@@ -18,6 +18,7 @@
 package org.jreleaser.assemblers;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLoggerContext;
 import org.jreleaser.model.Archive;
 import org.jreleaser.model.Constants;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -26,6 +27,7 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.project.Project;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
 import org.jreleaser.sdk.command.Command;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.StringUtils;
@@ -36,18 +38,25 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.jreleaser.assemblers.AssemblerUtils.copyJars;
 import static org.jreleaser.assemblers.AssemblerUtils.readJavaVersion;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.templates.TemplateUtils.trimTplExtension;
+import static org.jreleaser.util.ConcurrencyUtils.resolveParallelism;
 import static org.jreleaser.util.FileUtils.listFilesAndConsume;
 import static org.jreleaser.util.FileUtils.listFilesAndProcess;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -58,6 +67,8 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.2.0
  */
 public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<org.jreleaser.model.api.assemble.JlinkAssembler, JlinkAssembler> {
+    private static final String JLINK_PARALLELISM = "JLINK_PARALLELISM";
+
     public JlinkAssemblerProcessor(JReleaserContext context) {
         super(context);
     }
@@ -91,40 +102,93 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<org.
             imageName = assembler.getResolvedImageNameTransform(context);
         }
 
-        for (Artifact targetJdk : assembler.getTargetJdks()) {
-            if (!context.isPlatformSelected(targetJdk)) continue;
-
-            String platform = targetJdk.getPlatform();
-            // copy jars to assembly
-            Path jarsDirectory = inputsDirectory.resolve("jars");
-            Path universalJarsDirectory = jarsDirectory.resolve("universal");
-            context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
-            Set<Path> jars = copyJars(context, assembler, universalJarsDirectory, "");
-            Path platformJarsDirectory = jarsDirectory.resolve(platform);
-            context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
-            jars.addAll(copyJars(context, assembler, platformJarsDirectory, platform));
-
-            // resolve module names
-            Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jarsDirectory, platform, props));
-            context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
-            if (moduleNames.isEmpty()) {
-                throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
+        // universal jars are shared by all platforms, copy them once
+        Path jarsDirectory = inputsDirectory.resolve("jars");
+        Path universalJarsDirectory = jarsDirectory.resolve("universal");
+        context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
+        Map<String, Set<Path>> resolvedJars = new ConcurrentHashMap<>();
+        Set<Path> universalJars = copyJars(context, assembler, universalJarsDirectory, "", resolvedJars);
+        JdepsCache jdepsCache = new JdepsCache(context);
+
+        List<Artifact> targetJdks = assembler.getTargetJdks().stream()
+            .filter(context::isPlatformSelected)
+            .collect(toList());
+
+        // images are indexed by target so that results do not depend on scheduling
+        Artifact[] images = new Artifact[targetJdks.size()];
+        int parallelism = resolveParallelism(JLINK_PARALLELISM);
+        if (parallelism < 2 || targetJdks.size() < 2) {
+            for (int i = 0; i < targetJdks.size(); i++) {
+                images[i] = assemble(props, jdkPath, jdkVersion, assembleDirectory, jarsDirectory,
+                    universalJars, resolvedJars, jdepsCache, targetJdks.get(i), imageName);
             }
-            moduleNames.addAll(assembler.getAdditionalModuleNames());
-            if (isNotBlank(assembler.getJava().getMainModule())) {
-                moduleNames.add(assembler.getJava().getMainModule());
+        } else {
+            context.getLogger().debug(RB.$("assembler.jlink.parallel"), parallelism);
+            String finalImageName = imageName;
+            JReleaserLoggerContext loggerContext = context.getLogger().getContext().indented();
+            List<ConcurrencyUtils.GroupedTask> tasks = new ArrayList<>();
+            for (int i = 0; i < targetJdks.size(); i++) {
+                int index = i;
+                Artifact targetJdk = targetJdks.get(i);
+                tasks.add(ConcurrencyUtils.task(targetJdk.getPlatform(), () -> {
+                    try {
+                        context.getLogger().beginTask(loggerContext.withPrefix(assembler.getName() + "/" + targetJdk.getPlatform()));
+                        images[index] = assemble(props, jdkPath, jdkVersion, assembleDirectory, jarsDirectory,
+                            universalJars, resolvedJars, jdepsCache, targetJdk, finalImageName);
+                    } finally {
+                        context.getLogger().endTask();
+                    }
+                }));
             }
-            context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
 
-            String str = targetJdk.getExtraProperties()
-                .getOrDefault("archiveFormat", "ZIP")
-                .toString();
-            Archive.Format archiveFormat = Archive.Format.of(str);
+            List<Throwable> failures = ConcurrencyUtils.executeGrouped("jlink", parallelism, tasks);
+            for (Throwable failure : failures) {
+                if (failure instanceof AssemblerProcessingException) {
+                    throw (AssemblerProcessingException) failure;
+                } else if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (null != failure) {
+                    throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), failure);
+                }
+            }
+        }
 
-            jlink(assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, archiveFormat);
+        for (Artifact image : images) {
+            context.getLogger().debug("- {}", Paths.get(image.getPath()).getFileName());
         }
     }
 
+    private Artifact assemble(Map<String, Object> props, Path jdkPath, SemanticVersion jdkVersion, Path assembleDirectory,
+                              Path jarsDirectory, Set<Path> universalJars, Map<String, Set<Path>> resolvedJars, JdepsCache jdepsCache,
+                              Artifact targetJdk, String imageName) throws AssemblerProcessingException {
+        String platform = targetJdk.getPlatform();
+        // copy jars to assembly
+        Set<Path> jars = new LinkedHashSet<>(universalJars);
+        Path platformJarsDirectory = jarsDirectory.resolve(platform);
+        context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
+        jars.addAll(copyJars(context, assembler, platformJarsDirectory, platform, resolvedJars));
+
+        // resolve module names
+        Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jdkVersion, jarsDirectory,
+            platform, jars, jdepsCache, props));
+        context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
+        if (moduleNames.isEmpty()) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
+        }
+        moduleNames.addAll(assembler.getAdditionalModuleNames());
+        if (isNotBlank(assembler.getJava().getMainModule())) {
+            moduleNames.add(assembler.getJava().getMainModule());
+        }
+        context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
+
+        String str = targetJdk.getExtraProperties()
+            .getOrDefault("archiveFormat", "ZIP")
+            .toString();
+        Archive.Format archiveFormat = Archive.Format.of(str);
+
+        return jlink(assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, archiveFormat);
+    }
+
     private Artifact jlink(Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> moduleNames, String imageName, Archive.Format archiveFormat) throws AssemblerProcessingException {
         String platform = targetJdk.getPlatform();
         String platformReplaced = assembler.getPlatform().applyReplacements(platform);
@@ -190,12 +254,9 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<org.
 
                 try {
                     Files.createDirectory(outputJarsDirectory);
-                    FileUtils.copyFiles(context.getLogger(),
-                        jarsDirectory.resolve("universal"),
-                        outputJarsDirectory);
-                    FileUtils.copyFiles(context.getLogger(),
-                        jarsDirectory.resolve(platform),
-                        outputJarsDirectory);
+                    // jars are only read from here on, link them instead of copying their bytes
+                    linkJars(jarsDirectory.resolve("universal"), outputJarsDirectory);
+                    linkJars(jarsDirectory.resolve(platform), outputJarsDirectory);
                 } catch (IOException e) {
                     throw new AssemblerProcessingException(RB.$("ERROR_assembler_copy_jars",
                         context.relativizeToBasedir(outputJarsDirectory)), e);
@@ -225,27 +286,7 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<org.
             copyFiles(context, imageDirectory);
             copyFileSets(context, imageDirectory);
 
-            switch (archiveFormat) {
-                case ZIP:
-                    FileUtils.zip(workDirectory, imageArchive);
-                    break;
-                case TAR:
-                    FileUtils.tar(workDirectory, imageArchive);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(workDirectory, imageArchive);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(workDirectory, imageArchive);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(workDirectory, imageArchive);
-            }
-
-            context.getLogger().debug("- {}", imageArchive.getFileName());
+            packArchive(workDirectory, imageArchive, archiveFormat, assembler.getOptions());
 
             return Artifact.of(imageArchive, platform);
         } catch (IOException e) {
@@ -253,11 +294,58 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<org.
         }
     }
 
-    private Set<String> resolveModuleNames(JReleaserContext context, Path jdkPath, Path jarsDirectory, String platform, Map<String, Object> props) throws AssemblerProcessingException {
+    private void linkJars(Path source, Path destination) throws IOException {
+        if (!Files.exists(source)) return;
+
+        List<Path> jars = listFilesAndProcess(source, files -> files
+            .filter(Files::isRegularFile)
+            .collect(toList()));
+        for (Path jar : jars) {
+            FileUtils.linkOrCopy(jar, destination.resolve(jar.getFileName()));
+        }
+    }
+
+    private Set<String> resolveModuleNames(JReleaserContext context, Path jdkPath, SemanticVersion jdkVersion,
+                                           Path jarsDirectory, String platform, Set<Path> jars,
+                                           JdepsCache jdepsCache, Map<String, Object> props) throws AssemblerProcessingException {
         if (!assembler.getModuleNames().isEmpty()) {
             return assembler.getModuleNames();
         }
 
+        // the same jars inspected with the same jdeps settings always yield the same modules
+        List<String> settings = new ArrayList<>();
+        settings.add(String.valueOf(assembler.getJdeps().getMultiRelease()));
+        settings.add(String.valueOf(assembler.getJdeps().isIgnoreMissingDeps()));
+        settings.add(String.valueOf(assembler.getJdeps().isUseWildcardInPath()));
+        settings.add(String.valueOf(assembler.getJava().getMainModule()));
+        assembler.getJdeps().getTargets().stream()
+            .map(target -> resolveTemplate(target, props))
+            .forEach(settings::add);
+
+        String cacheKey = null;
+        try {
+            cacheKey = jdepsCache.key(jdkVersion.toString(), settings, jars);
+            Set<String> cached = jdepsCache.get(cacheKey);
+            if (null != cached) {
+                context.getLogger().debug(RB.$("assembler.jdeps.cached"), platform);
+                return cached;
+            }
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+        }
+
+        Set<String> moduleNames = executeJdeps(context, jdkPath, jarsDirectory, platform, props);
+        if (null != cacheKey) {
+            try {
+                jdepsCache.put(cacheKey, moduleNames);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+        }
+        return moduleNames;
+    }
+
+    private Set<String> executeJdeps(JReleaserContext context, Path jdkPath, Path jarsDirectory, String platform, Map<String, Object> props) throws AssemblerProcessingException {
         Path jdepsExecutable = jdkPath
             .resolve("bin")
             .resolve(PlatformUtils.isWindows() ? "jdeps.exe" : "jdeps")
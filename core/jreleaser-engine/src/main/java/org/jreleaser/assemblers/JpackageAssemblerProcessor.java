@@ -38,6 +38,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
@@ -83,8 +85,9 @@ public class JpackageAssemblerProcessor extends AbstractJavaAssemblerProcessor<o
 
         // copy jars to inputs
         context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(filesDirectory));
-        copyJars(context, assembler, filesDirectory, "");
-        copyJars(context, assembler, filesDirectory, platform);
+        Map<String, Set<Path>> resolvedJars = new ConcurrentHashMap<>();
+        copyJars(context, assembler, filesDirectory, "", resolvedJars);
+        copyJars(context, assembler, filesDirectory, platform, resolvedJars);
 
         // copy icon to inputs
         copyIcon(context, assembler, packager, inputsDirectory, platform, props);
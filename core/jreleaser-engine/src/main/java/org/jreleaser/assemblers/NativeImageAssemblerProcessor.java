@@ -34,6 +34,7 @@ import org.jreleaser.version.SemanticVersion;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -41,8 +42,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.assemblers.AssemblerUtils.copyJars;
 import static org.jreleaser.assemblers.AssemblerUtils.readJavaVersion;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -53,6 +57,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcessor<org.jreleaser.model.api.assemble.NativeImageAssembler, NativeImageAssembler> {
     private static final String KEY_GRAALVM_VERSION = "GRAALVM_VERSION";
+    private static final Map<JReleaserContext, Map<Path, GraalSetup>> GRAAL_SETUPS = new WeakHashMap<>();
 
     public NativeImageAssemblerProcessor(JReleaserContext context) {
         super(context);
@@ -62,10 +67,9 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
     protected void doAssemble(Map<String, Object> props) throws AssemblerProcessingException {
         // verify graal
         Path graalPath = assembler.getGraal().getEffectivePath(context, assembler);
-        SemanticVersion javaVersion = SemanticVersion.of(readJavaVersion(graalPath));
-        SemanticVersion graalVersion = SemanticVersion.of(readGraalVersion(graalPath));
-        context.getLogger().debug(RB.$("assembler.graal.java"), javaVersion, graalPath.toAbsolutePath().toString());
-        context.getLogger().debug(RB.$("assembler.graal.graal"), graalVersion, graalPath.toAbsolutePath().toString());
+        GraalSetup graal = setupGraal(graalPath);
+        context.getLogger().debug(RB.$("assembler.graal.java"), graal.javaVersion, graalPath.toAbsolutePath().toString());
+        context.getLogger().debug(RB.$("assembler.graal.graal"), graal.graalVersion, graalPath.toAbsolutePath().toString());
 
         String platform = assembler.getGraal().getPlatform();
         // copy jars to assembly
@@ -73,13 +77,11 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
         Path jarsDirectory = assembleDirectory.resolve("jars");
         Path universalJarsDirectory = jarsDirectory.resolve("universal");
         context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
-        Set<Path> jars = copyJars(context, assembler, universalJarsDirectory, "");
+        Map<String, Set<Path>> resolvedJars = new ConcurrentHashMap<>();
+        Set<Path> jars = copyJars(context, assembler, universalJarsDirectory, "", resolvedJars);
         Path platformJarsDirectory = jarsDirectory.resolve(platform);
         context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
-        jars.addAll(copyJars(context, assembler, platformJarsDirectory, platform));
-
-        // install native-image
-        installNativeImage(graalPath);
+        jars.addAll(copyJars(context, assembler, platformJarsDirectory, platform, resolvedJars));
 
         // run native-image
         String imageName = assembler.getResolvedImageName(context);
@@ -87,7 +89,24 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
             imageName = assembler.getResolvedImageNameTransform(context);
         }
 
-        nativeImage(assembleDirectory, graalPath, jars, imageName);
+        nativeImage(assembleDirectory, graalPath, graal, jars, imageName);
+    }
+
+    private GraalSetup setupGraal(Path graalPath) throws AssemblerProcessingException {
+        // reading versions and installing native-image only needs to happen once per Graal and run
+        Path key = graalPath.toAbsolutePath().normalize();
+        Map<Path, GraalSetup> setups;
+        synchronized (GRAAL_SETUPS) {
+            setups = GRAAL_SETUPS.computeIfAbsent(context, k -> new ConcurrentHashMap<>());
+        }
+        GraalSetup setup = setups.get(key);
+        if (null != setup) return setup;
+
+        setup = new GraalSetup(SemanticVersion.of(readJavaVersion(graalPath)),
+            SemanticVersion.of(readGraalVersion(graalPath)));
+        installNativeImage(graalPath);
+        setups.putIfAbsent(key, setup);
+        return setup;
     }
 
     private void installNativeImage(Path graalPath) throws AssemblerProcessingException {
@@ -112,7 +131,7 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
         }
     }
 
-    private Artifact nativeImage(Path assembleDirectory, Path graalPath, Set<Path> jars, String imageName) throws AssemblerProcessingException {
+    private Artifact nativeImage(Path assembleDirectory, Path graalPath, GraalSetup graal, Set<Path> jars, String imageName) throws AssemblerProcessingException {
         String platform = assembler.getGraal().getPlatform();
         String platformReplaced = assembler.getPlatform().applyReplacements(platform);
         String finalImageName = imageName + "-" + platformReplaced;
@@ -160,11 +179,33 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
                     .collect(Collectors.joining(File.pathSeparator)));
         }
         cmd.arg("-H:Name=" + assembler.getExecutable());
-        context.getLogger().debug(String.join(" ", cmd.getArgs()));
-        executeCommand(image.getParent(), cmd);
 
-        if (assembler.getUpx().isEnabled()) {
-            upx(image);
+        NativeImageCache cache = new NativeImageCache(context);
+        String cacheKey = resolveCacheKey(cache, graalPath, graal, customizer, jars, image.getParent());
+        Path cachedImage = null != cacheKey ? cache.get(cacheKey, executable) : null;
+        if (null != cachedImage) {
+            context.getLogger().info(RB.$("assembler.native.image.cached"), executable);
+            try {
+                Files.copy(cachedImage, image, REPLACE_EXISTING);
+                FileUtils.grantExecutableAccess(image);
+            } catch (IOException e) {
+                throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+            }
+        } else {
+            context.getLogger().debug(String.join(" ", cmd.getArgs()));
+            executeCommand(image.getParent(), cmd);
+
+            if (assembler.getUpx().isEnabled()) {
+                upx(image);
+            }
+
+            if (null != cacheKey) {
+                try {
+                    cache.put(cacheKey, image);
+                } catch (IOException e) {
+                    context.getLogger().trace(e);
+                }
+            }
         }
 
         try {
@@ -181,25 +222,7 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
             copyFileSets(context, distDirectory);
 
             Path imageArchive = assembleDirectory.resolve(finalImageName + "." + assembler.getArchiveFormat().extension());
-            switch (assembler.getArchiveFormat()) {
-                case ZIP:
-                    FileUtils.zip(tempDirectory, imageArchive);
-                    break;
-                case TAR:
-                    FileUtils.tar(tempDirectory, imageArchive);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(tempDirectory, imageArchive);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(tempDirectory, imageArchive);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(tempDirectory, imageArchive);
-            }
+            packArchive(tempDirectory, imageArchive, assembler.getArchiveFormat(), assembler.getOptions());
 
             context.getLogger().debug("- {}", imageArchive.getFileName());
 
@@ -209,6 +232,32 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
         }
     }
 
+    private String resolveCacheKey(NativeImageCache cache, Path graalPath, GraalSetup graal,
+                                   NativeImageAssembler.PlatformCustomizer customizer, Set<Path> jars, Path workingDirectory) {
+        // jars are keyed by path and contents, see AssemblerUtils.digestInputs
+        List<String> values = new ArrayList<>();
+        values.add(graalPath.toAbsolutePath().normalize().toString());
+        values.add(graal.graalVersion.toString());
+        values.add(graal.javaVersion.toString());
+        values.add(assembler.getGraal().getPlatform());
+        values.add(assembler.getExecutable());
+        values.add(assembler.getMainJar().getEffectivePath(context, assembler).getFileName().toString());
+        if (assembler.getUpx().isEnabled()) {
+            values.add("upx=" + assembler.getUpx().getVersion());
+            values.addAll(assembler.getUpx().getArgs());
+        }
+
+        List<String> args = new ArrayList<>(assembler.getArgs());
+        args.addAll(customizer.getArgs());
+
+        try {
+            return cache.key(values, args, jars, workingDirectory);
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            return null;
+        }
+    }
+
     private void upx(Path image) throws AssemblerProcessingException {
         Upx upx = new Upx(context.asImmutable(), assembler.getUpx().getVersion());
         try {
@@ -237,9 +286,9 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_invalid_graal_release", path.toAbsolutePath()));
         }
 
-        try {
+        try (InputStream in = Files.newInputStream(release)) {
             Properties props = new Properties();
-            props.load(Files.newInputStream(release));
+            props.load(in);
             if (props.containsKey(KEY_GRAALVM_VERSION)) {
                 String version = props.getProperty(KEY_GRAALVM_VERSION);
                 if (version.startsWith("\"") && version.endsWith("\"")) {
@@ -259,4 +308,14 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
         throws AssemblerProcessingException {
         // noop
     }
+
+    private static final class GraalSetup {
+        private final SemanticVersion javaVersion;
+        private final SemanticVersion graalVersion;
+
+        private GraalSetup(SemanticVersion javaVersion, SemanticVersion graalVersion) {
+            this.javaVersion = javaVersion;
+            this.graalVersion = graalVersion;
+        }
+    }
 }
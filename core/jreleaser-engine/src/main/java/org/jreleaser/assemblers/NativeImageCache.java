@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.util.FileUtils;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Keeps images produced by {@code native-image}, keyed by a digest of every input that affects
+ * the build: jar contents, arguments and the files they reference, the Graal installation and
+ * its versions, and platform. Entries live at
+ * {@code <outputDirectory>/caches/native-image/<key>/<executable>} and are moved into place
+ * atomically, a partially written entry is never observed.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+final class NativeImageCache {
+    private final Path cacheDirectory;
+
+    NativeImageCache(JReleaserContext context) {
+        this.cacheDirectory = context.getOutputDirectory().resolve("caches").resolve("native-image");
+    }
+
+    /**
+     * Computes the key of an image. Configuration files named by {@code -H:*ConfigurationFiles=},
+     * directories named by {@code -H:ConfigurationFileDirectories=} and {@code @argfiles} are
+     * hashed together with the jars, relative paths are resolved against {@code workingDirectory}.
+     */
+    String key(List<String> values, List<String> args, Collection<Path> jars, Path workingDirectory) throws IOException {
+        List<String> inputs = new ArrayList<>(values);
+        inputs.addAll(args);
+        Set<Path> files = new LinkedHashSet<>(jars);
+        collectReferencedFiles(args, workingDirectory, files);
+        return AssemblerUtils.digestInputs(inputs, files);
+    }
+
+    private static void collectReferencedFiles(List<String> args, Path workingDirectory, Set<Path> files) throws IOException {
+        for (String arg : args) {
+            if (arg.startsWith("@")) {
+                Path argFile = workingDirectory.resolve(arg.substring(1));
+                if (files.add(argFile)) {
+                    // argfiles may name configuration files of their own
+                    List<String> nested = new ArrayList<>();
+                    for (String line : Files.readAllLines(argFile)) {
+                        for (String token : line.trim().split("\\s+")) {
+                            if (!token.isEmpty()) nested.add(token);
+                        }
+                    }
+                    collectReferencedFiles(nested, workingDirectory, files);
+                }
+            } else if (arg.startsWith("-H:") && arg.contains("=")) {
+                String option = arg.substring(0, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (option.endsWith("ConfigurationFiles")) {
+                    for (String file : value.split(",")) {
+                        files.add(workingDirectory.resolve(file.trim()));
+                    }
+                } else if (option.endsWith("ConfigurationFileDirectories")) {
+                    for (String directory : value.split(",")) {
+                        try (Stream<Path> stream = Files.walk(workingDirectory.resolve(directory.trim()))) {
+                            files.addAll(stream.filter(Files::isRegularFile).collect(toList()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    Path get(String key, String executable) {
+        Path image = cacheDirectory.resolve(key).resolve(executable);
+        return Files.isRegularFile(image) ? image : null;
+    }
+
+    void put(String key, Path image) throws IOException {
+        Path entry = cacheDirectory.resolve(key);
+        if (Files.exists(entry)) {
+            FileUtils.deleteFiles(entry);
+        }
+
+        Files.createDirectories(cacheDirectory);
+        Path staging = Files.createTempDirectory(cacheDirectory, key);
+        try {
+            Files.copy(image, staging.resolve(image.getFileName()), REPLACE_EXISTING);
+            try {
+                Files.move(staging, entry, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(staging, entry);
+            }
+        } finally {
+            if (Files.exists(staging)) {
+                FileUtils.deleteFiles(staging);
+            }
+        }
+    }
+}
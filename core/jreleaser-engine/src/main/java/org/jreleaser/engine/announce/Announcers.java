@@ -19,28 +19,41 @@ package org.jreleaser.engine.announce;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.JReleaserLoggerContext;
+import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.JReleaserModel;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
-import org.jreleaser.model.spi.announce.AnnouncerBuilder;
 import org.jreleaser.model.spi.announce.AnnouncerBuilderFactory;
+import org.jreleaser.util.ConcurrencyUtils;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.ServiceProviders;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.jreleaser.model.internal.JReleaserSupport.supportedAnnouncers;
+import static org.jreleaser.util.ConcurrencyUtils.resolveParallelism;
+import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 public class Announcers {
+    private static final String ANNOUNCERS_PARALLELISM = "ANNOUNCERS_PARALLELISM";
+    private static final String ANNOUNCERS_TIMEOUT = "ANNOUNCERS_TIMEOUT";
+    private static final Object EVENTS_LOCK = new Object();
+
     public static void announce(JReleaserContext context) throws AnnounceException {
         context.getLogger().info(RB.$("announcers.header"));
         if (!context.getModel().getAnnounce().isEnabled()) {
@@ -54,6 +67,7 @@ public class Announcers {
             return;
         }
 
+        List<Announcer<?>> selection = new ArrayList<>();
         if (!context.getIncludedAnnouncers().isEmpty()) {
             for (String announcerName : context.getIncludedAnnouncers()) {
                 // check if the announcer name is valid
@@ -74,24 +88,67 @@ public class Announcers {
                     continue;
                 }
 
-                announce(context, announcer);
+                selection.add(announcer);
+            }
+        } else {
+            for (Map.Entry<String, Announcer<?>> entry : announcers.entrySet()) {
+                Announcer<?> announcer = entry.getValue();
+
+                if (context.getExcludedAnnouncers().contains(announcer.getName())) {
+                    context.getLogger().info(RB.$("announcers.announcer.excluded"), announcer.getName());
+                    continue;
+                }
+
+                selection.add(announcer);
             }
-            return;
         }
 
-        for (Map.Entry<String, Announcer<?>> entry : announcers.entrySet()) {
-            Announcer<?> announcer = entry.getValue();
+        announce(context, selection, resolveParallelism(ANNOUNCERS_PARALLELISM), resolveTimeout(context));
+    }
+
+    static void announce(JReleaserContext context, List<Announcer<?>> selection, int parallelism, long timeout) {
+        // durations are indexed by announcer so that the report does not depend on scheduling
+        long[] durations = new long[selection.size()];
 
-            if (context.getExcludedAnnouncers().contains(announcer.getName())) {
-                context.getLogger().info(RB.$("announcers.announcer.excluded"), announcer.getName());
-                continue;
+        if (parallelism < 2 || selection.size() < 2) {
+            for (int i = 0; i < selection.size(); i++) {
+                durations[i] = announce(context, selection.get(i), timeout);
+            }
+        } else {
+            context.getLogger().info(RB.$("announcers.parallel"), parallelism);
+            JReleaserLoggerContext loggerContext = context.getLogger().getContext();
+            List<ConcurrencyUtils.GroupedTask> tasks = new ArrayList<>();
+            for (int i = 0; i < selection.size(); i++) {
+                int index = i;
+                Announcer<?> announcer = selection.get(i);
+                tasks.add(ConcurrencyUtils.task(announcer.getName(), () -> {
+                    try {
+                        context.getLogger().beginTask(loggerContext);
+                        durations[index] = announce(context, announcer, timeout);
+                    } finally {
+                        context.getLogger().endTask();
+                    }
+                }));
             }
 
-            announce(context, announcer);
+            List<Throwable> failures = ConcurrencyUtils.executeGrouped("announcer", parallelism, tasks);
+            for (Throwable failure : failures) {
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (null != failure) {
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), failure);
+                }
+            }
+        }
+
+        for (int i = 0; i < selection.size(); i++) {
+            if (durations[i] > -1) {
+                context.getLogger().info(RB.$("announcers.announcer.metrics"), selection.get(i).getName(), durations[i] + "ms");
+            }
         }
     }
 
-    private static void announce(JReleaserContext context, Announcer<?> announcer) {
+    private static long announce(JReleaserContext context, Announcer<?> announcer, long timeout) {
         try {
             context.getLogger().increaseIndent();
             context.getLogger().setPrefix(announcer.getName());
@@ -99,15 +156,23 @@ public class Announcers {
             if (announcer.isEnabled()) {
                 fireAnnounceEvent(ExecutionEvent.before(JReleaserCommand.ANNOUNCE.toStep()), context, announcer);
 
+                long start = System.nanoTime();
                 try {
-                    announcer.announce();
-                    fireAnnounceEvent(ExecutionEvent.success(JReleaserCommand.ANNOUNCE.toStep()), context, announcer);
+                    if (announceWithTimeout(context, announcer, timeout)) {
+                        fireAnnounceEvent(ExecutionEvent.success(JReleaserCommand.ANNOUNCE.toStep()), context, announcer);
+                    } else {
+                        // neither success nor failure, reporting a failure invites a rerun that announces twice
+                        context.getLogger().warn(RB.$("announcers.announcer.unknown", announcer.getName(), timeout));
+                        return -1;
+                    }
                 } catch (AnnounceException e) {
                     fireAnnounceEvent(ExecutionEvent.failure(JReleaserCommand.ANNOUNCE.toStep(), e), context, announcer);
                     context.getLogger().warn(e.getMessage().trim());
                 }
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
             } else {
                 context.getLogger().debug(RB.$("announcers.announcer.disabled"));
+                return -1;
             }
         } finally {
             context.getLogger().restorePrefix();
@@ -115,29 +180,92 @@ public class Announcers {
         }
     }
 
-    private static void fireAnnounceEvent(ExecutionEvent event, JReleaserContext context, Announcer<?> announcer) {
+    /**
+     * @return {@code false} if the announcer did not complete in time, its outcome is unknown.
+     */
+    private static boolean announceWithTimeout(JReleaserContext context, Announcer<?> announcer, long timeout) throws AnnounceException {
+        if (timeout < 1) {
+            announcer.announce();
+            return true;
+        }
+
+        // run on a separate thread so that a stalled network call does not hold back the rest.
+        // The timeout only stops waiting: blocking I/O in HTTP and git clients ignores interrupts,
+        // a timed out announcer keeps running on its daemon thread until its own connect and read
+        // timeouts expire, and it may still deliver its announcement. Its output is written once
+        // it ends, even if the task that scheduled it has ended by then.
+        JReleaserLoggerContext loggerContext = context.getLogger().getContext();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                context.getLogger().beginTask(loggerContext);
+                announcer.announce();
+                return null;
+            } finally {
+                context.getLogger().endTask();
+            }
+        });
+        Thread thread = new Thread(task, "jreleaser-announce-" + announcer.getName());
+        thread.setDaemon(true);
+        thread.start();
+
+        try {
+            task.get(timeout, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return false;
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AnnounceException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof AnnounceException) {
+                throw (AnnounceException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AnnounceException(cause);
+        }
+    }
+
+    private static long resolveTimeout(JReleaserContext context) {
+        String value = Env.resolve(ANNOUNCERS_TIMEOUT, "");
+        if (isBlank(value)) return 0;
+
         try {
-            context.fireAnnounceStepEvent(event, announcer.getAnnouncer());
-        } catch (WorkflowListenerException e) {
-            context.getLogger().error(RB.$("listener.failure", e.getListener().getClass().getName()));
-            context.getLogger().trace(e);
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            context.getLogger().warn(RB.$("ERROR_announcer_invalid_timeout", value));
+            return 0;
+        }
+    }
+
+    private static void fireAnnounceEvent(ExecutionEvent event, JReleaserContext context, Announcer<?> announcer) {
+        // listeners are not required to be thread safe
+        synchronized (EVENTS_LOCK) {
+            try {
+                context.fireAnnounceStepEvent(event, announcer.getAnnouncer());
+            } catch (WorkflowListenerException e) {
+                context.getLogger().error(RB.$("listener.failure", e.getListener().getClass().getName()));
+                context.getLogger().trace(e);
+            }
         }
     }
 
     private static Map<String, Announcer<?>> findAnnouncers(JReleaserContext context) {
         JReleaserModel model = context.getModel();
 
-        Map<String, AnnouncerBuilder<?>> builders = StreamSupport.stream(ServiceLoader.load(AnnouncerBuilderFactory.class,
-                Announcers.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(AnnouncerBuilderFactory::getName, AnnouncerBuilderFactory::getBuilder));
-
         Map<String, Announcer<?>> announcers = new TreeMap<>();
-        builders.forEach((name, builder) -> {
+        for (AnnouncerBuilderFactory factory : ServiceProviders.providers(AnnouncerBuilderFactory.class,
+            Announcers.class.getClassLoader())) {
+            String name = factory.getName();
             if (null != model.getAnnounce().findAnnouncer(name) &&
-                !context.getExcludedAnnouncers().contains(name)) {
-                announcers.put(name, builder.configureWith(context).build());
+                !context.getExcludedAnnouncers().contains(name) &&
+                !announcers.containsKey(name)) {
+                announcers.put(name, factory.getBuilder().configureWith(context).build());
             }
-        });
+        }
 
         return announcers;
     }
@@ -23,11 +23,9 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.Assembler;
 import org.jreleaser.model.spi.assemble.AssemblerProcessor;
 import org.jreleaser.model.spi.assemble.AssemblerProcessorFactory;
+import org.jreleaser.util.ServiceProviders;
 
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Optional;
 
 /**
  * @author Andres Almiray
@@ -35,12 +33,11 @@ import java.util.stream.StreamSupport;
  */
 public class AssemblerProcessors {
     public static <A extends org.jreleaser.model.api.assemble.Assembler, S extends Assembler<A>> AssemblerProcessor<A, S> findProcessor(JReleaserContext context, S assembler) {
-        Map<String, AssemblerProcessor<?, ?>> processors = StreamSupport.stream(ServiceLoader.load(AssemblerProcessorFactory.class,
-                AssemblerProcessors.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(AssemblerProcessorFactory::getName, factory -> factory.getAssemblerProcessor(context)));
+        Optional<AssemblerProcessorFactory> factory = ServiceProviders.find(AssemblerProcessorFactory.class,
+            AssemblerProcessors.class.getClassLoader(), f -> f.getName().equals(assembler.getType()));
 
-        if (processors.containsKey(assembler.getType())) {
-            AssemblerProcessor assemblerProcessor = processors.get(assembler.getType());
+        if (factory.isPresent()) {
+            AssemblerProcessor assemblerProcessor = factory.get().getAssemblerProcessor(context);
             assemblerProcessor.setAssembler(assembler);
             return assemblerProcessor;
         }
@@ -47,7 +47,7 @@ public class ContextCreator {
         return create(logger,
             configurer,
             mode,
-            resolveModel(logger, configFile),
+            resolveModel(logger, configFile, outputDirectory),
             basedir,
             outputDirectory,
             dryrun,
@@ -82,9 +82,13 @@ public class ContextCreator {
     }
 
     public static JReleaserModel resolveModel(JReleaserLogger logger, Path configFile) {
+        return resolveModel(logger, configFile, null);
+    }
+
+    public static JReleaserModel resolveModel(JReleaserLogger logger, Path configFile, Path outputDirectory) {
         try {
             logger.info(RB.$("context.creator.reading_configuration"));
-            return JReleaserConfigLoader.loadConfig(configFile);
+            return JReleaserConfigLoader.loadConfig(configFile, outputDirectory);
         } catch (JReleaserException e) {
             logger.trace(e);
             throw e;
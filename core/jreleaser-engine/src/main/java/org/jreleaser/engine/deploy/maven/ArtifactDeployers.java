@@ -22,11 +22,9 @@ import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.maven.MavenDeployer;
 import org.jreleaser.model.spi.deploy.maven.MavenDeployerFactory;
+import org.jreleaser.util.ServiceProviders;
 
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Optional;
 
 /**
  * @author Andres Almiray
@@ -34,12 +32,11 @@ import java.util.stream.StreamSupport;
  */
 public class ArtifactDeployers {
     public static <A extends org.jreleaser.model.api.deploy.maven.MavenDeployer, D extends org.jreleaser.model.internal.deploy.maven.MavenDeployer<A>> MavenDeployer<A, D> findMavenDeployer(JReleaserContext context, D deployer) {
-        Map<String, MavenDeployer<?, ?>> deployers = StreamSupport.stream(ServiceLoader.load(MavenDeployerFactory.class,
-                ArtifactDeployers.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(MavenDeployerFactory::getName, factory -> factory.getMavenDeployer(context)));
+        Optional<MavenDeployerFactory> factory = ServiceProviders.find(MavenDeployerFactory.class,
+            ArtifactDeployers.class.getClassLoader(), f -> f.getName().equals(deployer.getType()));
 
-        if (deployers.containsKey(deployer.getType())) {
-            MavenDeployer artifactMavenDeployer = deployers.get(deployer.getType());
+        if (factory.isPresent()) {
+            MavenDeployer artifactMavenDeployer = factory.get().getMavenDeployer(context);
             artifactMavenDeployer.setDeployer(deployer);
             return artifactMavenDeployer;
         }
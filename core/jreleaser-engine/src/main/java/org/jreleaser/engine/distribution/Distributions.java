@@ -19,25 +19,57 @@ package org.jreleaser.engine.distribution;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.JReleaserLoggerContext;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.distributions.Distribution;
+import org.jreleaser.model.internal.packagers.DockerPackager;
 import org.jreleaser.model.internal.packagers.Packager;
+import org.jreleaser.model.internal.packagers.RepositoryPackager;
+import org.jreleaser.model.internal.packagers.RepositoryTap;
 import org.jreleaser.model.spi.packagers.PackagerProcessingException;
+import org.jreleaser.packagers.TapRepositoryCache;
+import org.jreleaser.util.ConcurrencyUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import static org.jreleaser.model.internal.JReleaserSupport.supportedPackagers;
+import static org.jreleaser.util.ConcurrencyUtils.resolveParallelism;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 public class Distributions {
+    private static final String PACKAGERS_PARALLELISM = "PACKAGERS_PARALLELISM";
+
     public static void process(JReleaserContext context, DistributionProcessor.PackagingAction action) {
+        if (action.getType() != DistributionProcessor.PackagingAction.Type.PUBLISH) {
+            doProcess(context, action);
+            return;
+        }
+
+        try {
+            doProcess(context, action);
+        } catch (RuntimeException | Error e) {
+            // never push partial results, drop cached tap repository clones instead
+            TapRepositoryCache.discard(context);
+            throw e;
+        }
+
+        // push batched commits and discard cached tap repository clones
+        TapRepositoryCache.flush(context);
+    }
+
+    private static void doProcess(JReleaserContext context, DistributionProcessor.PackagingAction action) {
         List<Distribution> activeDistributions = context.getModel().getActiveDistributions();
 
         if (activeDistributions.isEmpty()) {
@@ -45,6 +77,12 @@ public class Distributions {
             return;
         }
 
+        int parallelism = resolveParallelism(PACKAGERS_PARALLELISM);
+        if (parallelism > 1) {
+            processInParallel(context, activeDistributions, action, parallelism);
+            return;
+        }
+
         if (!context.getIncludedDistributions().isEmpty()) {
             for (String distributionName : context.getIncludedDistributions()) {
                 Distribution distribution = activeDistributions.stream()
@@ -125,12 +163,133 @@ public class Distributions {
         context.getLogger().decreaseIndent();
     }
 
+    private static void processInParallel(JReleaserContext context, List<Distribution> activeDistributions, DistributionProcessor.PackagingAction action, int parallelism) {
+        // distributions that are processed with every packager get start/end events, as in serial mode
+        Map<Distribution, List<String>> selection = new LinkedHashMap<>();
+        Set<Distribution> withEvents = new LinkedHashSet<>();
+
+        if (!context.getIncludedDistributions().isEmpty()) {
+            for (String distributionName : context.getIncludedDistributions()) {
+                Distribution distribution = activeDistributions.stream()
+                    .filter(d -> distributionName.equals(d.getName()))
+                    .findFirst().orElse(null);
+
+                if (null == distribution) {
+                    context.getLogger().error(RB.$("distributions.no.match"), distributionName);
+                    return;
+                }
+
+                if (!context.getIncludedPackagers().isEmpty()) {
+                    selection.put(distribution, includedPackagers(context));
+                } else {
+                    selection.put(distribution, activePackagers(context));
+                    withEvents.add(distribution);
+                }
+            }
+        } else if (!context.getIncludedPackagers().isEmpty()) {
+            List<String> packagerNames = includedPackagers(context);
+            for (Distribution distribution : activeDistributions) {
+                selection.put(distribution, packagerNames);
+            }
+        } else {
+            List<String> packagerNames = activePackagers(context);
+            for (Distribution distribution : activeDistributions) {
+                if (context.getExcludedDistributions().contains(distribution.getName())) {
+                    context.getLogger().info(RB.$("distributions.distribution.excluded"), distribution.getName());
+                    continue;
+                }
+                selection.put(distribution, packagerNames);
+                withEvents.add(distribution);
+            }
+        }
+
+        context.getLogger().info(RB.$("distributions.apply.action"), action.getText());
+        context.getLogger().info(RB.$("distributions.parallel"), parallelism);
+
+        JReleaserLoggerContext loggerContext = context.getLogger().getContext().indented();
+        List<ConcurrencyUtils.GroupedTask> tasks = new ArrayList<>();
+        selection.forEach((distribution, packagerNames) -> {
+            for (String packagerName : packagerNames) {
+                tasks.add(ConcurrencyUtils.task(resolveGroup(distribution, packagerName), () -> {
+                    try {
+                        context.getLogger().beginTask(loggerContext);
+                        processPackager(context, distribution, packagerName, distribution.getName() + "/" + packagerName, action);
+                    } finally {
+                        context.getLogger().endTask();
+                    }
+                }));
+            }
+        });
+
+        withEvents.forEach(distribution -> fireDistributionStartEvent(context, distribution));
+        List<Throwable> failures = ConcurrencyUtils.executeGrouped("packager", parallelism, tasks);
+        withEvents.forEach(distribution -> fireDistributionEndEvent(context, distribution));
+
+        // report failures in submission order so that the outcome does not depend on scheduling
+        RuntimeException failure = null;
+        for (Throwable t : failures) {
+            if (null == t) continue;
+            if (null == failure) {
+                failure = t instanceof RuntimeException ? (RuntimeException) t : new JReleaserException(RB.$("ERROR_unexpected_error"), t);
+            } else {
+                failure.addSuppressed(t);
+            }
+        }
+
+        if (null != failure) {
+            throw failure;
+        }
+    }
+
+    private static List<String> includedPackagers(JReleaserContext context) {
+        List<String> packagerNames = new ArrayList<>();
+        for (String packagerName : context.getIncludedPackagers()) {
+            if (!supportedPackagers().contains(packagerName)) {
+                context.getLogger().warn(RB.$("ERROR_unsupported_packager", packagerName));
+                continue;
+            }
+            packagerNames.add(packagerName);
+        }
+        return packagerNames;
+    }
+
+    private static List<String> activePackagers(JReleaserContext context) {
+        List<String> packagerNames = new ArrayList<>();
+        for (String packagerName : supportedPackagers()) {
+            if (context.getExcludedPackagers().contains(packagerName)) {
+                context.getLogger().info(RB.$("packagers.packager.excluded"), packagerName);
+                continue;
+            }
+            packagerNames.add(packagerName);
+        }
+        return packagerNames;
+    }
+
+    private static String resolveGroup(Distribution distribution, String packagerName) {
+        Packager<?> packager = distribution.findPackager(packagerName);
+
+        if (packager instanceof RepositoryPackager && packager.isEnabled()) {
+            // packagers pushing to the same remote repository must not race each other
+            RepositoryTap tap = ((RepositoryPackager<?>) packager).getRepositoryTap();
+            return "repository:" + tap.getCanonicalRepoName();
+        } else if (DockerPackager.TYPE.equals(packagerName)) {
+            // docker login/logout state is shared by all invocations of the docker CLI
+            return packagerName;
+        }
+
+        return distribution.getName() + "/" + packagerName;
+    }
+
     private static void processPackager(JReleaserContext context, Distribution distribution, String packagerName, DistributionProcessor.PackagingAction action) {
+        processPackager(context, distribution, packagerName, packagerName, action);
+    }
+
+    private static void processPackager(JReleaserContext context, Distribution distribution, String packagerName, String prefix, DistributionProcessor.PackagingAction action) {
         Packager<?> packager = distribution.getPackager(packagerName);
 
         try {
             context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(packagerName);
+            context.getLogger().setPrefix(prefix);
             firePackagerEvent(ExecutionEvent.before(actionToStep(action.getType())), context, distribution, action.getType(), packager);
 
             DistributionProcessor processor = createDistributionProcessor(context,
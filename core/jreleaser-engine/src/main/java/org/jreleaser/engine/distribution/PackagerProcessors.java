@@ -23,12 +23,9 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.packagers.Packager;
 import org.jreleaser.model.spi.packagers.PackagerProcessor;
 import org.jreleaser.model.spi.packagers.PackagerProcessorFactory;
+import org.jreleaser.util.ServiceProviders;
 
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
-
-import static java.util.stream.Collectors.toMap;
+import java.util.Optional;
 
 /**
  * @author Andres Almiray
@@ -36,12 +33,11 @@ import static java.util.stream.Collectors.toMap;
  */
 public class PackagerProcessors {
     public static <T extends Packager> PackagerProcessor<T> findProcessor(JReleaserContext context, T packager) {
-        Map<String, PackagerProcessor> processors = StreamSupport.stream(ServiceLoader.load(PackagerProcessorFactory.class,
-                PackagerProcessors.class.getClassLoader()).spliterator(), false)
-            .collect(toMap(PackagerProcessorFactory::getName, factory -> factory.getPackagerNameProcessor(context)));
+        Optional<PackagerProcessorFactory> factory = ServiceProviders.find(PackagerProcessorFactory.class,
+            PackagerProcessors.class.getClassLoader(), f -> f.getName().equals(packager.getType()));
 
-        if (processors.containsKey(packager.getType())) {
-            PackagerProcessor<T> packagerProcessor = processors.get(packager.getType());
+        if (factory.isPresent()) {
+            PackagerProcessor<T> packagerProcessor = factory.get().getPackagerNameProcessor(context);
             packagerProcessor.setPackager(packager);
             return packagerProcessor;
         }
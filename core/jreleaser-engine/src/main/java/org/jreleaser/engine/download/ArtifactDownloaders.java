@@ -23,11 +23,9 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.spi.download.ArtifactDownloader;
 import org.jreleaser.model.spi.download.ArtifactDownloaderFactory;
+import org.jreleaser.util.ServiceProviders;
 
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Optional;
 
 /**
  * @author Andres Almiray
@@ -35,12 +33,11 @@ import java.util.stream.StreamSupport;
  */
 public class ArtifactDownloaders {
     public static <A extends org.jreleaser.model.api.download.Downloader, D extends Downloader<A>> ArtifactDownloader<A, D> findDownloader(JReleaserContext context, D downloader) {
-        Map<String, ArtifactDownloader<?, ?>> downloaders = StreamSupport.stream(ServiceLoader.load(ArtifactDownloaderFactory.class,
-                ArtifactDownloaders.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(ArtifactDownloaderFactory::getName, factory -> factory.getArtifactDownloader(context)));
+        Optional<ArtifactDownloaderFactory> factory = ServiceProviders.find(ArtifactDownloaderFactory.class,
+            ArtifactDownloaders.class.getClassLoader(), f -> f.getName().equals(downloader.getType()));
 
-        if (downloaders.containsKey(downloader.getType())) {
-            ArtifactDownloader artifactDownloader = downloaders.get(downloader.getType());
+        if (factory.isPresent()) {
+            ArtifactDownloader artifactDownloader = factory.get().getArtifactDownloader(context);
             artifactDownloader.setDownloader(downloader);
             return artifactDownloader;
         }
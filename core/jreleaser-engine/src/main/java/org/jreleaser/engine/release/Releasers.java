@@ -32,11 +32,9 @@ import org.jreleaser.model.spi.release.ReleaseException;
 import org.jreleaser.model.spi.release.Releaser;
 import org.jreleaser.model.spi.release.ReleaserBuilder;
 import org.jreleaser.model.spi.release.ReleaserBuilderFactory;
+import org.jreleaser.util.ServiceProviders;
 
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Optional;
 
 /**
  * @author Andres Almiray
@@ -67,27 +65,43 @@ public class Releasers {
     }
 
     private static <T extends ReleaserBuilder<?>> T findReleaser(JReleaserContext context) {
-        Map<String, ReleaserBuilder<?>> builders = StreamSupport.stream(ServiceLoader.load(ReleaserBuilderFactory.class,
-                Releasers.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(ReleaserBuilderFactory::getName, ReleaserBuilderFactory::getBuilder));
+        return findReleaser(context, Releasers.class.getClassLoader());
+    }
 
+    /**
+     * Finds the builder of the configured releaser. Fails with {@code ERROR_releaser_no_match} when no
+     * releaser is configured or when the configured one has no provider in the given class loader.
+     */
+    static <T extends ReleaserBuilder<?>> T findReleaser(JReleaserContext context, ClassLoader classLoader) {
+        String type = resolveReleaserType(context);
+        if (null != type) {
+            Optional<ReleaserBuilderFactory> factory = ServiceProviders.find(ReleaserBuilderFactory.class,
+                classLoader, f -> f.getName().equals(type));
+            if (factory.isPresent()) {
+                return (T) factory.get().getBuilder();
+            }
+        }
+
+        throw new JReleaserException(RB.$("ERROR_releaser_no_match"));
+    }
+
+    private static String resolveReleaserType(JReleaserContext context) {
         if (null != context.getModel().getRelease().getGithub()) {
-            return (T) builders.get(GithubReleaser.TYPE);
+            return GithubReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getGitlab()) {
-            return (T) builders.get(GitlabReleaser.TYPE);
+            return GitlabReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getGitea()) {
-            return (T) builders.get(GiteaReleaser.TYPE);
+            return GiteaReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getCodeberg()) {
-            return (T) builders.get(CodebergReleaser.TYPE);
+            return CodebergReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getGeneric()) {
-            return (T) builders.get(GenericGitReleaser.TYPE);
+            return GenericGitReleaser.TYPE;
         }
-
-        throw new JReleaserException(RB.$("ERROR_releaser_no_match"));
+        return null;
     }
 
     private static void fireAssembleEvent(ExecutionEvent event, JReleaserContext context, org.jreleaser.model.api.release.Releaser releaser) {
@@ -23,11 +23,9 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.upload.Uploader;
 import org.jreleaser.model.spi.upload.ArtifactUploader;
 import org.jreleaser.model.spi.upload.ArtifactUploaderFactory;
+import org.jreleaser.util.ServiceProviders;
 
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Optional;
 
 /**
  * @author Andres Almiray
@@ -35,12 +33,11 @@ import java.util.stream.StreamSupport;
  */
 public class ArtifactUploaders {
     public static <A extends org.jreleaser.model.api.upload.Uploader, U extends Uploader<A>> ArtifactUploader<A, U> findUploader(JReleaserContext context, U uploader) {
-        Map<String, ArtifactUploader<?, ?>> uploaders = StreamSupport.stream(ServiceLoader.load(ArtifactUploaderFactory.class,
-                ArtifactUploaders.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(ArtifactUploaderFactory::getName, factory -> factory.getArtifactUploader(context)));
+        Optional<ArtifactUploaderFactory> factory = ServiceProviders.find(ArtifactUploaderFactory.class,
+            ArtifactUploaders.class.getClassLoader(), f -> f.getName().equals(uploader.getType()));
 
-        if (uploaders.containsKey(uploader.getType())) {
-            ArtifactUploader artifactUploader = uploaders.get(uploader.getType());
+        if (factory.isPresent()) {
+            ArtifactUploader artifactUploader = factory.get().getArtifactUploader(context);
             artifactUploader.setUploader(uploader);
             return artifactUploader;
         }
@@ -32,7 +32,6 @@ import org.jreleaser.sdk.git.JReleaserGpgSigner;
 import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -75,65 +74,82 @@ abstract class AbstractRepositoryPackagerProcessor<T extends RepositoryPackager<
                 resolveGitUsername(releaser),
                 resolveGitToken(releaser));
 
-            // clone the repository
-            context.getLogger().debug(RB.$("repository.clone"), repository.getHttpUrl());
-            Path directory = Files.createTempDirectory("jreleaser-" + tap.getResolvedName());
-
-            Git git = Git.cloneRepository()
-                .setCredentialsProvider(credentialsProvider)
-                .setBranch(tap.getBranch())
-                .setDirectory(directory.toFile())
-                .setURI(repository.getHttpUrl())
-                .call();
-
-            prepareWorkingCopy(props, directory, distribution);
-
-            // add everything
-            git.add()
-                .addFilepattern(".")
-                .call();
-
-            props.putAll(distribution.props());
-            context.getModel().getRelease().getReleaser().fillProps(props, context.getModel());
-
-            // setup commit
-            context.getLogger().debug(RB.$("repository.commit.setup"));
-            CommitCommand commitCommand = git.commit()
-                .setAll(true)
-                .setMessage(packager.getRepositoryTap().getResolvedCommitMessage(props))
-                .setAuthor(packager.getCommitAuthor().getName(), packager.getCommitAuthor().getEmail());
-            commitCommand.setCredentialsProvider(credentialsProvider);
-
-            boolean signingEnabled = releaser.isSign();
-            String signingKey = "**********";
-            JReleaserGpgSigner signer = new JReleaserGpgSigner(context, signingEnabled);
-
-            commitCommand = commitCommand
-                .setSign(signingEnabled)
-                .setSigningKey(signingKey)
-                .setGpgSigner(signer);
-
-            commitCommand.call();
-
-            String tagName = tap.getResolvedTagName(props);
-            context.getLogger().debug(RB.$("git.releaser.repository.tag"), tagName);
-            git.tag()
-                .setSigned(signingEnabled)
-                .setSigningKey(signingKey)
-                .setGpgSigner(signer)
-                .setName(tagName)
-                .setForceUpdate(true)
-                .call();
-
-            context.getLogger().info(RB.$("repository.push"), tap.getCanonicalRepoName());
-            // push commit
-            context.getLogger().debug(RB.$("repository.commit.push"));
-            git.push()
-                .setDryRun(false)
-                .setPushAll()
-                .setCredentialsProvider(credentialsProvider)
-                .setPushTags()
-                .call();
+            // clone the repository, or reuse a working copy from a previous distribution
+            TapRepositoryCache cache = TapRepositoryCache.of(context);
+            TapRepositoryCache.WorkingCopy workingCopy = cache.checkout(context,
+                tap.getCanonicalRepoName(),
+                repository.getHttpUrl(),
+                tap.getBranch(),
+                credentialsProvider);
+
+            try {
+                Git git = workingCopy.getGit();
+                Path directory = workingCopy.getDirectory();
+
+                prepareWorkingCopy(props, directory, distribution);
+
+                // add everything
+                git.add()
+                    .addFilepattern(".")
+                    .call();
+
+                props.putAll(distribution.props());
+                context.getModel().getRelease().getReleaser().fillProps(props, context.getModel());
+
+                boolean signingEnabled = releaser.isSign();
+                String signingKey = "**********";
+                JReleaserGpgSigner signer = new JReleaserGpgSigner(context, signingEnabled);
+                String tagName = tap.getResolvedTagName(props);
+
+                if (cache.isBatch()) {
+                    // commit, tag and push happen once per repository at the end of the publish step
+                    context.getLogger().info(RB.$("repository.batched"), tap.getCanonicalRepoName());
+                    workingCopy.stage(packager.getRepositoryTap().getResolvedCommitMessage(props),
+                        tagName,
+                        packager.getCommitAuthor().getName(),
+                        packager.getCommitAuthor().getEmail(),
+                        signingEnabled,
+                        signingKey,
+                        signer);
+                    return;
+                }
+
+                // setup commit
+                context.getLogger().debug(RB.$("repository.commit.setup"));
+                CommitCommand commitCommand = git.commit()
+                    .setAll(true)
+                    .setMessage(packager.getRepositoryTap().getResolvedCommitMessage(props))
+                    .setAuthor(packager.getCommitAuthor().getName(), packager.getCommitAuthor().getEmail());
+                commitCommand.setCredentialsProvider(credentialsProvider);
+
+                commitCommand = commitCommand
+                    .setSign(signingEnabled)
+                    .setSigningKey(signingKey)
+                    .setGpgSigner(signer);
+
+                commitCommand.call();
+
+                context.getLogger().debug(RB.$("git.releaser.repository.tag"), tagName);
+                git.tag()
+                    .setSigned(signingEnabled)
+                    .setSigningKey(signingKey)
+                    .setGpgSigner(signer)
+                    .setName(tagName)
+                    .setForceUpdate(true)
+                    .call();
+
+                context.getLogger().info(RB.$("repository.push"), tap.getCanonicalRepoName());
+                // push commit
+                context.getLogger().debug(RB.$("repository.commit.push"));
+                git.push()
+                    .setDryRun(false)
+                    .setPushAll()
+                    .setCredentialsProvider(credentialsProvider)
+                    .setPushTags()
+                    .call();
+            } finally {
+                workingCopy.release();
+            }
         } catch (Exception e) {
             throw new PackagerProcessingException(RB.$("ERROR_unexpected_repository_update", tap.getCanonicalRepoName()), e);
         }
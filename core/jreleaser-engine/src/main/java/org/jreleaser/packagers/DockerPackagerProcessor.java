@@ -18,6 +18,8 @@
 package org.jreleaser.packagers;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.JReleaserLoggerContext;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.distributions.Distribution;
@@ -28,6 +30,9 @@ import org.jreleaser.model.internal.packagers.DockerSpec;
 import org.jreleaser.model.internal.project.Project;
 import org.jreleaser.model.spi.packagers.PackagerProcessingException;
 import org.jreleaser.sdk.command.Command;
+import org.jreleaser.sdk.command.CommandException;
+import org.jreleaser.sdk.command.CommandExecutor;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
 
@@ -38,6 +43,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -54,6 +60,7 @@ import static org.jreleaser.model.Constants.KEY_DOCKER_SPEC_NAME;
 import static org.jreleaser.mustache.MustacheUtils.passThrough;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.templates.TemplateUtils.trimTplExtension;
+import static org.jreleaser.util.ConcurrencyUtils.resolveParallelism;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -62,6 +69,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor<DockerPackager> {
     private static final String ROOT = "ROOT";
+    private static final String DOCKER_PARALLELISM = "DOCKER_PARALLELISM";
 
     public DockerPackagerProcessor(JReleaserContext context) {
         super(context);
@@ -163,12 +171,17 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
         Path rootPackageDirectory = getPackageDirectory(props).resolve(ROOT);
         copyFiles(rootPrepareDirectory, rootPackageDirectory);
 
+        // specs are built from separate directories, they may be built concurrently
+        Map<String, DockerTask> tasks = new LinkedHashMap<>();
         for (DockerSpec spec : packager.getActiveSpecs()) {
-            context.getLogger().debug(RB.$("distributions.action.packaging") + " {} spec", spec.getName());
-            Map<String, Object> newProps = fillSpecProps(distribution, props, spec);
-            packageDocker(distribution, newProps, packageDirectory.resolve(spec.getName()),
-                spec, Collections.singletonList(spec.getArtifact()));
+            tasks.put(spec.getName(), () -> {
+                context.getLogger().debug(RB.$("distributions.action.packaging") + " {} spec", spec.getName());
+                Map<String, Object> newProps = fillSpecProps(distribution, props, spec);
+                packageDocker(distribution, newProps, packageDirectory.resolve(spec.getName()),
+                    spec, Collections.singletonList(spec.getArtifact()));
+            });
         }
+        execute("docker-build", tasks);
     }
 
     protected void packageDocker(Distribution distribution,
@@ -182,25 +195,11 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
             // copy files
             Path workingDirectory = prepareAssembly(distribution, props, packageDirectory, artifacts);
 
-            for (String imageName : docker.getImageNames()) {
-                imageName = resolveTemplate(imageName, props).toLowerCase(Locale.ENGLISH);
+            Command cmd = createBuildCommand(context.getLogger(), props, docker, workingDirectory);
+            context.getLogger().debug(String.join(" ", cmd.getArgs()));
 
-                // command line
-                Command cmd = createBuildCommand(props, docker);
-                if (!cmd.hasArg("-q") && !cmd.hasArg("--quiet")) {
-                    cmd.arg("-q");
-                }
-                cmd.arg("-f");
-                cmd.arg(workingDirectory.resolve("Dockerfile").toAbsolutePath().toString());
-                cmd.arg("-t");
-                cmd.arg(imageName);
-                cmd.arg(workingDirectory.toAbsolutePath().toString());
-                context.getLogger().debug(String.join(" ", cmd.getArgs()));
-
-                context.getLogger().info(" - {}", imageName);
-                // execute
-                executeCommand(cmd);
-            }
+            // execute
+            executeBuildCommand(cmd, docker);
         } catch (IOException e) {
             throw new PackagerProcessingException(e);
         }
@@ -215,24 +214,38 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
 
         Files.createDirectories(assemblyDirectory);
 
+        boolean nativeImage = distribution.getType() == org.jreleaser.model.Distribution.DistributionType.NATIVE_IMAGE;
         for (Artifact artifact : artifacts) {
-            Path artifactPath = artifact.getEffectivePath(context, distribution);
-            if (distribution.getType() == org.jreleaser.model.Distribution.DistributionType.NATIVE_IMAGE) {
-                if (artifactPath.toString().endsWith(".zip")) {
-                    FileUtils.unpackArchive(artifactPath, assemblyDirectory);
-                } else {
-                    Files.copy(artifactPath, assemblyDirectory.resolve(artifactPath.getFileName()), REPLACE_EXISTING);
-                }
-            } else {
-                Files.copy(artifactPath, assemblyDirectory.resolve(artifactPath.getFileName()), REPLACE_EXISTING);
-            }
+            stageArtifact(artifact.getEffectivePath(context, distribution), assemblyDirectory, nativeImage);
         }
 
         return packageDirectory;
     }
 
-    private Command createBuildCommand(Map<String, Object> props, DockerConfiguration docker) {
-        Command cmd = createCommand("build");
+    static void stageArtifact(Path artifactPath, Path assemblyDirectory, boolean unpackZip) throws IOException {
+        if (unpackZip && artifactPath.toString().endsWith(".zip")) {
+            FileUtils.unpackArchive(artifactPath, assemblyDirectory);
+        } else {
+            // artifacts are only read by the docker build context, no need to copy their bytes
+            FileUtils.linkOrCopy(artifactPath, assemblyDirectory.resolve(artifactPath.getFileName()));
+        }
+    }
+
+    /**
+     * Creates a single build command that tags every image name of the given configuration.
+     */
+    static Command createBuildCommand(JReleaserLogger logger, Map<String, Object> props,
+                                      DockerConfiguration docker, Path workingDirectory) {
+        Command cmd;
+        if (!docker.getCacheTo().isEmpty()) {
+            // exporting cache requires buildx, --load keeps the image available for tagging and pushing
+            cmd = createCommand("buildx")
+                .arg("build")
+                .arg("--load");
+        } else {
+            cmd = createCommand("build");
+        }
+
         for (int i = 0; i < docker.getBuildArgs().size(); i++) {
             String arg = docker.getBuildArgs().get(i);
             if (arg.contains("{{")) {
@@ -241,10 +254,93 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
                 cmd.arg(arg);
             }
         }
+        for (String cacheFrom : docker.getCacheFrom()) {
+            cmd.arg("--cache-from");
+            cmd.arg(resolveTemplate(cacheFrom, props));
+        }
+        for (String cacheTo : docker.getCacheTo()) {
+            cmd.arg("--cache-to");
+            cmd.arg(resolveTemplate(cacheTo, props));
+        }
+
+        if (!cmd.hasArg("-q") && !cmd.hasArg("--quiet")) {
+            cmd.arg("-q");
+        }
+        cmd.arg("-f");
+        cmd.arg(workingDirectory.resolve("Dockerfile").toAbsolutePath().toString());
+        for (String imageName : docker.getImageNames()) {
+            imageName = resolveTemplate(imageName, props).toLowerCase(Locale.ENGLISH);
+            cmd.arg("-t");
+            cmd.arg(imageName);
+            logger.info(" - {}", imageName);
+        }
+        cmd.arg(workingDirectory.toAbsolutePath().toString());
         return cmd;
     }
 
-    private Command createCommand(String name) {
+    private void executeBuildCommand(Command command, DockerConfiguration docker) throws PackagerProcessingException {
+        CommandExecutor executor = new CommandExecutor(context.getLogger());
+        if (!docker.getCacheFrom().isEmpty()) {
+            // --cache-from is only honored by the classic builder when BuildKit is enabled
+            executor.environment("DOCKER_BUILDKIT", "1");
+        }
+
+        try {
+            int exitValue = executor.executeCommand(command);
+            if (exitValue != 0) {
+                throw new CommandException(RB.$("ERROR_command_execution_exit_value", exitValue));
+            }
+        } catch (CommandException e) {
+            throw new PackagerProcessingException(RB.$("ERROR_unexpected_error"), e);
+        }
+    }
+
+    private void execute(String name, Map<String, DockerTask> tasks) throws PackagerProcessingException {
+        execute(context.getLogger(), packager.getType(), name, resolveParallelism(DOCKER_PARALLELISM), tasks);
+    }
+
+    /**
+     * Runs every task, concurrently when {@code parallelism} allows it. The first failure in
+     * declaration order is rethrown once all tasks have finished.
+     */
+    static void execute(JReleaserLogger logger, String type, String name, int parallelism,
+                        Map<String, DockerTask> tasks) throws PackagerProcessingException {
+        if (parallelism < 2 || tasks.size() < 2) {
+            for (DockerTask task : tasks.values()) {
+                task.execute();
+            }
+            return;
+        }
+
+        JReleaserLoggerContext loggerContext = logger.getContext().indented();
+        List<ConcurrencyUtils.GroupedTask> grouped = new ArrayList<>();
+        tasks.forEach((key, task) -> grouped.add(ConcurrencyUtils.task(key, () -> {
+            try {
+                logger.beginTask(loggerContext.withPrefix(type + "/" + key));
+                task.execute();
+            } finally {
+                logger.endTask();
+            }
+        })));
+
+        List<Throwable> failures = ConcurrencyUtils.executeGrouped(name, parallelism, grouped);
+        for (Throwable failure : failures) {
+            if (failure instanceof PackagerProcessingException) {
+                throw (PackagerProcessingException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (null != failure) {
+                throw new PackagerProcessingException(RB.$("ERROR_unexpected_error"), failure);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface DockerTask {
+        void execute() throws PackagerProcessingException;
+    }
+
+    private static Command createCommand(String name) {
         return new Command("docker" + (PlatformUtils.isWindows() ? ".exe" : ""))
             .arg("-l")
             .arg("error")
@@ -286,10 +382,16 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
                                  DockerConfiguration docker) throws PackagerProcessingException {
         for (AbstractDockerConfiguration.Registry registry : docker.getRegistries()) {
             login(registry);
-            for (String imageName : docker.getImageNames()) {
-                publish(registry, imageName, props);
+            try {
+                // pushes to the same registry share the login, they may run concurrently
+                Map<String, DockerTask> tasks = new LinkedHashMap<>();
+                for (String imageName : docker.getImageNames()) {
+                    tasks.put(imageName, () -> publish(registry, imageName, props));
+                }
+                execute("docker-push", tasks);
+            } finally {
+                logout(registry);
             }
-            logout(registry);
         }
     }
 
@@ -0,0 +1,288 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.packagers;
+
+import org.eclipse.jgit.api.CommitCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.sdk.git.JReleaserGpgSigner;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.FileUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Keeps one working copy per tap repository (URL + branch) for the duration of a run, so that
+ * publishing several distributions to the same repository clones it only once.
+ * <p>
+ * When batching is enabled ({@code JRELEASER_PACKAGERS_BATCH_PUBLISH}) files staged by every
+ * distribution are committed, tagged and pushed once per repository by {@link #flush(JReleaserContext)}.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class TapRepositoryCache {
+    private static final String BATCH_PUBLISH = "PACKAGERS_BATCH_PUBLISH";
+    private static final Map<JReleaserContext, TapRepositoryCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, WorkingCopy> workingCopies = new LinkedHashMap<>();
+    private final boolean batch;
+
+    private TapRepositoryCache() {
+        this.batch = Boolean.parseBoolean(Env.resolve(BATCH_PUBLISH, ""));
+    }
+
+    static TapRepositoryCache of(JReleaserContext context) {
+        return CACHES.computeIfAbsent(context, k -> new TapRepositoryCache());
+    }
+
+    boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * Commits and pushes staged changes (batch mode) then discards all working copies.
+     */
+    public static void flush(JReleaserContext context) {
+        List<WorkingCopy> copies = remove(context);
+
+        JReleaserException failure = null;
+        for (WorkingCopy copy : copies) {
+            try {
+                if (copy.hasStagedChanges()) {
+                    copy.commitAndPush(context);
+                }
+            } catch (GitAPIException | RuntimeException e) {
+                JReleaserException x = new JReleaserException(RB.$("ERROR_unexpected_repository_update", copy.name), e);
+                if (null == failure) {
+                    failure = x;
+                } else {
+                    failure.addSuppressed(x);
+                }
+            } finally {
+                copy.dispose();
+            }
+        }
+
+        if (null != failure) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Discards all working copies without committing nor pushing staged changes.
+     */
+    public static void discard(JReleaserContext context) {
+        for (WorkingCopy copy : remove(context)) {
+            copy.dispose();
+        }
+    }
+
+    private static List<WorkingCopy> remove(JReleaserContext context) {
+        TapRepositoryCache cache = CACHES.remove(context);
+        if (null == cache) return Collections.emptyList();
+
+        synchronized (cache.workingCopies) {
+            List<WorkingCopy> copies = new ArrayList<>(cache.workingCopies.values());
+            cache.workingCopies.clear();
+            return copies;
+        }
+    }
+
+    WorkingCopy checkout(JReleaserContext context, String name, String url, String branch, CredentialsProvider credentialsProvider) throws IOException, GitAPIException {
+        String key = url + "#" + (isNotBlank(branch) ? branch : "HEAD");
+
+        WorkingCopy copy = lock(key, name);
+        try {
+            copy.credentialsProvider = credentialsProvider;
+            if (null == copy.git) {
+                context.getLogger().debug(RB.$("repository.clone"), url);
+                copy.directory = Files.createTempDirectory("jreleaser-" + name.replace('/', '-'));
+                try {
+                    copy.git = Git.cloneRepository()
+                        .setCredentialsProvider(credentialsProvider)
+                        .setBranch(branch)
+                        .setBranchesToClone(isNotBlank(branch) ? Collections.singletonList("refs/heads/" + branch) : null)
+                        .setCloneAllBranches(false)
+                        .setNoTags()
+                        .setDirectory(copy.directory.toFile())
+                        .setURI(url)
+                        .call();
+                } catch (GitAPIException | RuntimeException e) {
+                    // do not keep a copy without a repository around, the next checkout clones again
+                    synchronized (workingCopies) {
+                        workingCopies.remove(key, copy);
+                    }
+                    copy.dispose();
+                    copy.directory = null;
+                    throw e;
+                }
+            } else if (!batch) {
+                // bring the cached copy up to date with the remote, dropping leftovers from a failed push
+                context.getLogger().debug(RB.$("repository.reuse"), url);
+                String current = copy.git.getRepository().getBranch();
+                copy.git.fetch()
+                    .setCredentialsProvider(credentialsProvider)
+                    .call();
+                copy.git.reset()
+                    .setMode(ResetCommand.ResetType.HARD)
+                    .setRef("refs/remotes/origin/" + current)
+                    .call();
+                copy.git.clean()
+                    .setCleanDirectories(true)
+                    .setForce(true)
+                    .call();
+            } else {
+                context.getLogger().debug(RB.$("repository.reuse"), url);
+            }
+        } catch (IOException | GitAPIException | RuntimeException e) {
+            copy.lock.unlock();
+            throw e;
+        }
+
+        return copy;
+    }
+
+    private WorkingCopy lock(String key, String name) {
+        while (true) {
+            WorkingCopy copy;
+            synchronized (workingCopies) {
+                copy = workingCopies.computeIfAbsent(key, k -> new WorkingCopy(name));
+            }
+
+            copy.lock.lock();
+            synchronized (workingCopies) {
+                if (workingCopies.get(key) == copy) return copy;
+            }
+            // discarded by a failed clone while waiting for the lock
+            copy.lock.unlock();
+        }
+    }
+
+    static final class WorkingCopy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<String> messages = new LinkedHashSet<>();
+        private final Set<String> tags = new LinkedHashSet<>();
+        private final String name;
+        private Git git;
+        private Path directory;
+        private CredentialsProvider credentialsProvider;
+        private String authorName;
+        private String authorEmail;
+        private boolean signingEnabled;
+        private String signingKey;
+        private JReleaserGpgSigner signer;
+
+        private WorkingCopy(String name) {
+            this.name = name;
+        }
+
+        Git getGit() {
+            return git;
+        }
+
+        Path getDirectory() {
+            return directory;
+        }
+
+        void release() {
+            lock.unlock();
+        }
+
+        void stage(String message, String tagName, String authorName, String authorEmail,
+                   boolean signingEnabled, String signingKey, JReleaserGpgSigner signer) {
+            messages.add(message);
+            tags.add(tagName);
+            if (null == this.authorName) {
+                this.authorName = authorName;
+                this.authorEmail = authorEmail;
+                this.signingEnabled = signingEnabled;
+                this.signingKey = signingKey;
+                this.signer = signer;
+            }
+        }
+
+        private boolean hasStagedChanges() {
+            return !messages.isEmpty();
+        }
+
+        private void commitAndPush(JReleaserContext context) throws GitAPIException {
+            context.getLogger().debug(RB.$("repository.commit.setup"));
+            CommitCommand commitCommand = git.commit()
+                .setAll(true)
+                .setMessage(String.join("\n", messages))
+                .setAuthor(authorName, authorEmail)
+                .setSign(signingEnabled)
+                .setSigningKey(signingKey)
+                .setGpgSigner(signer);
+            commitCommand.setCredentialsProvider(credentialsProvider);
+            commitCommand.call();
+
+            for (String tagName : tags) {
+                context.getLogger().debug(RB.$("git.releaser.repository.tag"), tagName);
+                git.tag()
+                    .setSigned(signingEnabled)
+                    .setSigningKey(signingKey)
+                    .setGpgSigner(signer)
+                    .setName(tagName)
+                    .setForceUpdate(true)
+                    .call();
+            }
+
+            context.getLogger().info(RB.$("repository.push"), name);
+            context.getLogger().debug(RB.$("repository.commit.push"));
+            git.push()
+                .setDryRun(false)
+                .setPushAll()
+                .setCredentialsProvider(credentialsProvider)
+                .setPushTags()
+                .call();
+        }
+
+        private void dispose() {
+            if (null != git) {
+                git.close();
+            }
+            if (null != directory) {
+                try {
+                    FileUtils.deleteFiles(directory);
+                } catch (IOException ignored) {
+                    // temporary directory, best effort
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.assemble.JlinkAssembler;
+import org.jreleaser.model.internal.common.Glob;
+import org.jreleaser.model.internal.release.GithubReleaser;
+import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class AssemblerUtilsTest {
+    private static final String PLATFORM = "linux-x86_64";
+
+    @TempDir
+    Path tmp;
+
+    private StringWriter output;
+    private JReleaserContext context;
+    private Path lib;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        output = new StringWriter();
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        GithubReleaser github = new GithubReleaser();
+        github.setOwner("acme");
+        github.setName("app");
+        model.getRelease().setGithub(github);
+
+        context = new JReleaserContext(
+            new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.DEBUG),
+            JReleaserContext.Configurer.CLI_YAML,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            model,
+            tmp.resolve("basedir"),
+            tmp.resolve("out"),
+            false,
+            false,
+            Collections.emptyList());
+        lib = tmp.resolve("basedir").resolve("lib");
+        write(lib.resolve("app.jar"), "app");
+        write(lib.resolve("dep.jar"), "dep");
+    }
+
+    @Test
+    public void jarsAreHardLinkedIntoTheStagingDirectory() throws Exception {
+        // given:
+        Path staging = tmp.resolve("staging");
+
+        // when:
+        Set<Path> jars = AssemblerUtils.copyJars(context, assembler(), staging, PLATFORM);
+
+        // then:
+        assertThat(jars, containsInAnyOrder(lib.resolve("app.jar"), lib.resolve("dep.jar")));
+        assertThat(Files.isSameFile(lib.resolve("app.jar"), staging.resolve("app.jar")), equalTo(true));
+        assertThat(Files.isSameFile(lib.resolve("dep.jar"), staging.resolve("dep.jar")), equalTo(true));
+    }
+
+    @Test
+    public void jarsAlreadyStagedAreSkipped() throws Exception {
+        // given:
+        Path staging = tmp.resolve("staging");
+        JlinkAssembler assembler = assembler();
+        AssemblerUtils.copyJars(context, assembler, staging, PLATFORM);
+        int copies = count("copying app.jar");
+
+        // when:
+        AssemblerUtils.copyJars(context, assembler, staging, PLATFORM);
+
+        // then:
+        assertThat(copies, equalTo(1));
+        assertThat(count("copying app.jar"), equalTo(1));
+        assertThat(Files.isSameFile(lib.resolve("app.jar"), staging.resolve("app.jar")), equalTo(true));
+    }
+
+    @Test
+    public void identicalGlobsAreResolvedOncePerInvocation() throws Exception {
+        // given:
+        Map<String, Set<Path>> resolvedJars = new HashMap<>();
+        AssemblerUtils.copyJars(context, assembler(), tmp.resolve("first"), PLATFORM, resolvedJars);
+        write(lib.resolve("late.jar"), "late");
+
+        // when:
+        Set<Path> cached = AssemblerUtils.copyJars(context, assembler(), tmp.resolve("second"), PLATFORM, resolvedJars);
+        Set<Path> fresh = AssemblerUtils.copyJars(context, assembler(), tmp.resolve("third"), PLATFORM, new HashMap<>());
+
+        // then:
+        assertThat(resolvedJars, aMapWithSize(1));
+        assertThat(cached, containsInAnyOrder(lib.resolve("app.jar"), lib.resolve("dep.jar")));
+        assertThat(fresh, containsInAnyOrder(lib.resolve("app.jar"), lib.resolve("dep.jar"), lib.resolve("late.jar")));
+    }
+
+    private JlinkAssembler assembler() {
+        // globs cache their own artifacts, every assembler gets fresh instances
+        Glob glob = new Glob();
+        glob.setDirectory("lib");
+        glob.setPattern("*.jar");
+        glob.setPlatform(PLATFORM);
+
+        JlinkAssembler assembler = new JlinkAssembler();
+        assembler.setName("app");
+        assembler.addJar(glob);
+        return assembler;
+    }
+
+    private int count(String message) {
+        int count = 0;
+        for (String line : output.toString().split("\\R")) {
+            if (line.endsWith(message)) count++;
+        }
+        return count;
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
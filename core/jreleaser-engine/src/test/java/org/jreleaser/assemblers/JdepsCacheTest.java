@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class JdepsCacheTest {
+    private static final List<String> SETTINGS = Arrays.asList("false", "true");
+
+    @TempDir
+    Path tmp;
+
+    private JdepsCache cache;
+
+    @BeforeEach
+    public void setup() {
+        JReleaserContext context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            tmp.resolve("basedir"),
+            tmp.resolve("out"),
+            false,
+            false,
+            Collections.emptyList());
+        cache = new JdepsCache(context);
+    }
+
+    @Test
+    public void storedModulesAreFound() throws IOException {
+        // given:
+        Path jar = write(tmp.resolve("lib").resolve("app.jar"), "app");
+        String key = cache.key("17", SETTINGS, Collections.singleton(jar));
+        Set<String> modules = new TreeSet<>(Arrays.asList("java.base", "java.logging"));
+
+        // when:
+        cache.put(key, modules);
+
+        // then:
+        assertThat(cache.get(cache.key("17", SETTINGS, Collections.singleton(jar))), equalTo(modules));
+        assertThat(cache.get(cache.key("11", SETTINGS, Collections.singleton(jar))), nullValue());
+    }
+
+    @Test
+    public void jarsWithTheSameNameInDifferentDirectoriesHaveDifferentKeys() throws IOException {
+        // given:
+        Path first = write(tmp.resolve("universal").resolve("lib.jar"), "lib");
+        Path second = write(tmp.resolve("linux-x86_64").resolve("lib.jar"), "lib");
+
+        // expect:
+        assertThat(cache.key("17", SETTINGS, Collections.singleton(first)),
+            not(equalTo(cache.key("17", SETTINGS, Collections.singleton(second)))));
+    }
+
+    @Test
+    public void changedJarContentsChangeTheKey() throws IOException {
+        // given:
+        Path jar = write(tmp.resolve("lib").resolve("app.jar"), "v1");
+        String before = cache.key("17", SETTINGS, Collections.singleton(jar));
+
+        // when:
+        write(jar, "v2");
+
+        // then:
+        assertThat(cache.key("17", SETTINGS, Collections.singleton(jar)), not(equalTo(before)));
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class NativeImageCacheTest {
+    private static final List<String> GRAAL_17 = Arrays.asList("/opt/graalvm-22.3.0", "22.3.0", "17.0.5", "linux-x86_64", "app");
+    private static final List<String> GRAAL_11 = Arrays.asList("/opt/graalvm-22.3.0-java11", "22.3.0", "11.0.17", "linux-x86_64", "app");
+
+    @TempDir
+    Path tmp;
+
+    private NativeImageCache cache;
+    private Set<Path> jars;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        JReleaserContext context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            tmp.resolve("basedir"),
+            tmp.resolve("out"),
+            false,
+            false,
+            Collections.emptyList());
+        cache = new NativeImageCache(context);
+        jars = Collections.singleton(write(tmp.resolve("jars").resolve("app.jar"), "app"));
+    }
+
+    @Test
+    public void storedImageIsFoundForTheSameInputs() throws IOException {
+        // given:
+        Path config = write(tmp.resolve("reflect-config.json"), "[]");
+        List<String> args = Collections.singletonList("-H:ReflectionConfigurationFiles=" + config);
+        String key = cache.key(GRAAL_17, args, jars, tmp);
+        Path image = write(tmp.resolve("build").resolve("app"), "image");
+
+        // when:
+        cache.put(key, image);
+
+        // then:
+        Path cached = cache.get(cache.key(GRAAL_17, args, jars, tmp), "app");
+        assertThat(cached, notNullValue());
+        assertThat(new String(Files.readAllBytes(cached), StandardCharsets.UTF_8), equalTo("image"));
+    }
+
+    @Test
+    public void otherGraalInstallationMisses() throws IOException {
+        // given:
+        String key = cache.key(GRAAL_17, Collections.emptyList(), jars, tmp);
+        cache.put(key, write(tmp.resolve("build").resolve("app"), "image"));
+
+        // expect:
+        assertThat(cache.get(cache.key(GRAAL_11, Collections.emptyList(), jars, tmp), "app"), nullValue());
+    }
+
+    @Test
+    public void changedConfigurationFileMisses() throws IOException {
+        // given:
+        write(tmp.resolve("reflect-config.json"), "[]");
+        write(tmp.resolve("resource-config.json"), "{}");
+        List<String> args = Collections.singletonList("-H:ResourceConfigurationFiles=resource-config.json,reflect-config.json");
+        String before = cache.key(GRAAL_17, args, jars, tmp);
+
+        // when:
+        write(tmp.resolve("reflect-config.json"), "[{\"name\":\"com.acme.App\"}]");
+
+        // then:
+        assertThat(cache.key(GRAAL_17, args, jars, tmp), not(equalTo(before)));
+    }
+
+    @Test
+    public void changedFileReferencedByArgfileMisses() throws IOException {
+        // given:
+        write(tmp.resolve("conf").resolve("reflect-config.json"), "[]");
+        write(tmp.resolve("native-image.args"), "--no-fallback\n-H:ConfigurationFileDirectories=conf\n");
+        List<String> args = Collections.singletonList("@native-image.args");
+        String before = cache.key(GRAAL_17, args, jars, tmp);
+
+        // when:
+        write(tmp.resolve("conf").resolve("reflect-config.json"), "[{\"name\":\"com.acme.App\"}]");
+
+        // then:
+        assertThat(cache.key(GRAAL_17, args, jars, tmp), not(equalTo(before)));
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.announce;
+
+import org.jreleaser.extensions.api.workflow.WorkflowListener;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.api.hooks.ExecutionEvent;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.spi.announce.Announcer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class AnnouncersTest {
+    @TempDir
+    Path basedir;
+
+    private final StringWriter output = new StringWriter();
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void parallelAnnouncersRunConcurrentlyAndReportInOrder() throws Exception {
+        // given:
+        JReleaserContext context = createContext();
+        // every announcer waits for all others to start, a serial run would time out here
+        CountDownLatch started = new CountDownLatch(3);
+        List<Announcer<?>> selection = Arrays.asList(
+            announcer("alpha", () -> awaitAll(started, 300L)),
+            announcer("beta", () -> awaitAll(started, 100L)),
+            announcer("gamma", () -> awaitAll(started, 0L)));
+
+        // when:
+        Announcers.announce(context, selection, 3, 0L);
+
+        // then:
+        assertThat(events.subList(0, 3), containsInAnyOrder("alpha before", "beta before", "gamma before"));
+        assertThat(events.subList(3, 6), contains("gamma success", "beta success", "alpha success"));
+        assertThat(metrics(), contains("alpha", "beta", "gamma"));
+    }
+
+    @Test
+    public void timedOutAnnouncerHasUnknownOutcome() throws Exception {
+        // given:
+        JReleaserContext context = createContext();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Announcer<?>> selection = Arrays.asList(
+            announcer("slow", () -> {
+                // like blocking I/O, keeps going regardless of interrupts
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                        // noop
+                    }
+                }
+                context.getLogger().info("posted slow");
+            }),
+            announcer("fast", () -> context.getLogger().info("posted fast")));
+
+        try {
+            // when:
+            Announcers.announce(context, selection, 2, 1L);
+
+            // then:
+            assertThat(output.toString(), containsString("outcome unknown, announcer slow did not complete within 1 seconds"));
+            assertTrue(events.contains("fast success"));
+            assertThat(events.stream().filter(e -> e.startsWith("slow")).collect(Collectors.toList()), contains("slow before"));
+            assertThat(metrics(), contains("fast"));
+            assertThat(output.toString(), not(containsString("posted slow")));
+        } finally {
+            release.countDown();
+        }
+
+        // and: late output reaches the log once the announcer ends
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (!output.toString().contains("posted slow") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        assertThat(output.toString(), containsString("posted slow"));
+    }
+
+    private JReleaserContext createContext() {
+        JReleaserContext context = new JReleaserContext(
+            new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO),
+            JReleaserContext.Configurer.CLI_YAML,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            basedir,
+            basedir.resolve("out"),
+            false,
+            false,
+            Collections.emptyList());
+        context.setWorkflowListeners(Collections.singletonList(listener()));
+        return context;
+    }
+
+    private List<String> metrics() {
+        List<String> names = new ArrayList<>();
+        for (String line : output.toString().split("\\R")) {
+            int i = line.indexOf("announcer ");
+            if (i > -1 && line.contains(" completed after ")) {
+                names.add(line.substring(i + "announcer ".length(), line.indexOf(" completed after ")));
+            }
+        }
+        return names;
+    }
+
+    private WorkflowListener listener() {
+        return (WorkflowListener) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WorkflowListener.class}, (proxy, method, args) -> {
+                if ("onAnnounceStep".equals(method.getName())) {
+                    org.jreleaser.model.api.announce.Announcer announcer = (org.jreleaser.model.api.announce.Announcer) args[2];
+                    events.add(announcer.getName() + " " + ((ExecutionEvent) args[0]).getType());
+                }
+                return null;
+            });
+    }
+
+    private static void awaitAll(CountDownLatch started, long delay) throws Exception {
+        started.countDown();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        Thread.sleep(delay);
+    }
+
+    private static Announcer<?> announcer(String name, Action action) {
+        org.jreleaser.model.api.announce.Announcer api = (org.jreleaser.model.api.announce.Announcer) Proxy.newProxyInstance(
+            AnnouncersTest.class.getClassLoader(),
+            new Class<?>[]{org.jreleaser.model.api.announce.Announcer.class}, (proxy, method, args) -> {
+                if ("getName".equals(method.getName())) return name;
+                if ("isEnabled".equals(method.getName())) return true;
+                return null;
+            });
+
+        return new Announcer<org.jreleaser.model.api.announce.Announcer>() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public void announce() throws org.jreleaser.model.spi.announce.AnnounceException {
+                try {
+                    action.execute();
+                } catch (Exception e) {
+                    throw new org.jreleaser.model.spi.announce.AnnounceException(e);
+                }
+            }
+
+            @Override
+            public org.jreleaser.model.api.announce.Announcer getAnnouncer() {
+                return api;
+            }
+        };
+    }
+
+    private interface Action {
+        void execute() throws Exception;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.release;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.release.GithubReleaser;
+import org.jreleaser.sdk.github.GithubReleaserBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ReleasersTest {
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void configuredReleaserIsFound() {
+        // given:
+        JReleaserContext context = context(githubModel());
+
+        // when:
+        Object builder = Releasers.findReleaser(context, Releasers.class.getClassLoader());
+
+        // then:
+        assertThat(builder, instanceOf(GithubReleaserBuilder.class));
+    }
+
+    @Test
+    public void missingReleaserIsReported() {
+        // given:
+        JReleaserContext context = context(new JReleaserModel());
+
+        // when:
+        JReleaserException e = assertThrows(JReleaserException.class,
+            () -> Releasers.findReleaser(context, Releasers.class.getClassLoader()));
+
+        // then:
+        assertThat(e.getMessage(), equalTo(RB.$("ERROR_releaser_no_match")));
+    }
+
+    @Test
+    public void configuredReleaserWithoutProviderIsReported() {
+        // given:
+        JReleaserContext context = context(githubModel());
+        // sees no providers at all, as if the github sdk were missing
+        ClassLoader empty = new URLClassLoader(new URL[0], null);
+
+        // when:
+        JReleaserException e = assertThrows(JReleaserException.class,
+            () -> Releasers.findReleaser(context, empty));
+
+        // then:
+        assertThat(e.getMessage(), equalTo(RB.$("ERROR_releaser_no_match")));
+    }
+
+    private static JReleaserModel githubModel() {
+        JReleaserModel model = new JReleaserModel();
+        GithubReleaser github = new GithubReleaser();
+        github.setOwner("acme");
+        github.setName("app");
+        model.getRelease().setGithub(github);
+        return model;
+    }
+
+    private JReleaserContext context(JReleaserModel model) {
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            model,
+            tmp.resolve("basedir"),
+            tmp.resolve("out"),
+            false,
+            false,
+            Collections.emptyList());
+    }
+}
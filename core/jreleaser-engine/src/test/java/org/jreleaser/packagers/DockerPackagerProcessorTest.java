@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.packagers;
+
+import org.jreleaser.logging.BufferedJReleaserLogger;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.packagers.DockerPackager;
+import org.jreleaser.model.spi.packagers.PackagerProcessingException;
+import org.jreleaser.sdk.command.Command;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class DockerPackagerProcessorTest {
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void serialTasksRunInDeclarationOrder() throws PackagerProcessingException {
+        // given:
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        Map<String, DockerPackagerProcessor.DockerTask> tasks = new LinkedHashMap<>();
+        for (String name : new String[]{"alpine", "slim", "ubuntu"}) {
+            tasks.put(name, () -> order.add(name));
+        }
+
+        // when:
+        DockerPackagerProcessor.execute(logger(new StringWriter()), "docker", "test", 1, tasks);
+
+        // then:
+        assertThat(order, contains("alpine", "slim", "ubuntu"));
+    }
+
+    @Test
+    public void concurrentTasksRethrowFirstFailureInDeclarationOrder() {
+        // given:
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        Map<String, DockerPackagerProcessor.DockerTask> tasks = new LinkedHashMap<>();
+        tasks.put("alpine", () -> {
+            sleep(100);
+            order.add("alpine");
+            throw new PackagerProcessingException("alpine");
+        });
+        tasks.put("slim", () -> order.add("slim"));
+        tasks.put("ubuntu", () -> {
+            order.add("ubuntu");
+            throw new PackagerProcessingException("ubuntu");
+        });
+
+        // when:
+        PackagerProcessingException e = assertThrows(PackagerProcessingException.class,
+            () -> DockerPackagerProcessor.execute(logger(new StringWriter()), "docker", "test", 3, tasks));
+
+        // then:
+        assertThat(e.getMessage(), equalTo("alpine"));
+        assertThat(order, containsInAnyOrder("alpine", "slim", "ubuntu"));
+    }
+
+    @Test
+    public void concurrentTaskOutputIsPrefixedAndNotInterleaved() throws PackagerProcessingException {
+        // given:
+        StringWriter output = new StringWriter();
+        JReleaserLogger logger = logger(output);
+        Map<String, DockerPackagerProcessor.DockerTask> tasks = new LinkedHashMap<>();
+        for (String name : new String[]{"alpine", "slim"}) {
+            tasks.put(name, () -> {
+                for (int i = 0; i < 3; i++) {
+                    logger.info("line " + i);
+                    sleep(10);
+                }
+            });
+        }
+
+        // when:
+        DockerPackagerProcessor.execute(logger, "docker", "test", 2, tasks);
+
+        // then:
+        List<String> lines = new ArrayList<>();
+        for (String line : output.toString().split("\\R")) {
+            lines.add(line.substring(SimpleJReleaserLoggerAdapter.Level.INFO.toString().length()).trim());
+        }
+        assertThat(lines.size(), equalTo(6));
+        List<String> prefixes = new ArrayList<>();
+        for (int i = 0; i < 6; i += 3) {
+            String prefix = lines.get(i).substring(0, lines.get(i).indexOf(']') + 1);
+            assertThat(lines.subList(i, i + 3), contains(prefix + " line 0", prefix + " line 1", prefix + " line 2"));
+            prefixes.add(prefix);
+        }
+        assertThat(prefixes, containsInAnyOrder("[docker/alpine]", "[docker/slim]"));
+    }
+
+    @Test
+    public void singleBuildTagsEveryImageName() {
+        // given:
+        DockerPackager docker = new DockerPackager();
+        docker.addImageName("acme/app:{{tagName}}");
+        docker.addImageName("acme/app:LATEST");
+        docker.addBuildArg("--pull");
+        StringWriter output = new StringWriter();
+
+        // when:
+        Command cmd = DockerPackagerProcessor.createBuildCommand(logger(output), props(), docker, tmp);
+
+        // then:
+        assertThat(args(cmd), contains("-l", "error", "build", "--pull", "-q",
+            "-f", tmp.resolve("Dockerfile").toAbsolutePath().toString(),
+            "-t", "acme/app:v1.0.0",
+            "-t", "acme/app:latest",
+            tmp.toAbsolutePath().toString()));
+        assertThat(output.toString().contains(" - acme/app:v1.0.0"), equalTo(true));
+        assertThat(output.toString().contains(" - acme/app:latest"), equalTo(true));
+    }
+
+    @Test
+    public void quietBuildArgIsNotRepeated() {
+        // given:
+        DockerPackager docker = new DockerPackager();
+        docker.addImageName("acme/app:latest");
+        docker.addBuildArg("--quiet");
+
+        // when:
+        Command cmd = DockerPackagerProcessor.createBuildCommand(logger(new StringWriter()), props(), docker, tmp);
+
+        // then:
+        assertThat(args(cmd), not(hasItem("-q")));
+    }
+
+    @Test
+    public void cacheFromKeepsTheClassicBuilder() {
+        // given:
+        DockerPackager docker = new DockerPackager();
+        docker.addImageName("acme/app:latest");
+        docker.setCacheFrom(Collections.singletonList("type=registry,ref=acme/app:{{tagName}}"));
+
+        // when:
+        Command cmd = DockerPackagerProcessor.createBuildCommand(logger(new StringWriter()), props(), docker, tmp);
+
+        // then:
+        assertThat(args(cmd), contains("-l", "error", "build",
+            "--cache-from", "type=registry,ref=acme/app:v1.0.0", "-q",
+            "-f", tmp.resolve("Dockerfile").toAbsolutePath().toString(),
+            "-t", "acme/app:latest",
+            tmp.toAbsolutePath().toString()));
+    }
+
+    @Test
+    public void cacheToBuildsWithBuildxAndLoadsTheImage() {
+        // given:
+        DockerPackager docker = new DockerPackager();
+        docker.addImageName("acme/app:latest");
+        docker.setCacheFrom(Collections.singletonList("type=local,src=/tmp/cache"));
+        docker.setCacheTo(Arrays.asList("type=local,dest=/tmp/cache", "type=inline"));
+
+        // when:
+        Command cmd = DockerPackagerProcessor.createBuildCommand(logger(new StringWriter()), props(), docker, tmp);
+
+        // then:
+        assertThat(args(cmd), contains("-l", "error", "buildx", "build", "--load",
+            "--cache-from", "type=local,src=/tmp/cache",
+            "--cache-to", "type=local,dest=/tmp/cache",
+            "--cache-to", "type=inline", "-q",
+            "-f", tmp.resolve("Dockerfile").toAbsolutePath().toString(),
+            "-t", "acme/app:latest",
+            tmp.toAbsolutePath().toString()));
+    }
+
+    @Test
+    public void artifactsAreHardLinkedIntoTheBuildContext() throws IOException {
+        // given:
+        Path jar = Files.write(tmp.resolve("app-1.0.0.jar"), new byte[]{1, 2, 3});
+        Path zip = Files.write(tmp.resolve("app-1.0.0.zip"), new byte[]{4, 5, 6});
+        Path assembly = Files.createDirectories(tmp.resolve("package").resolve("assembly"));
+
+        // when:
+        DockerPackagerProcessor.stageArtifact(jar, assembly, false);
+        DockerPackagerProcessor.stageArtifact(zip, assembly, false);
+
+        // then:
+        assertThat(Files.isSameFile(jar, assembly.resolve("app-1.0.0.jar")), equalTo(true));
+        assertThat(Files.isSameFile(zip, assembly.resolve("app-1.0.0.zip")), equalTo(true));
+    }
+
+    private static Map<String, Object> props() {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("tagName", "v1.0.0");
+        return props;
+    }
+
+    private static List<String> args(Command cmd) {
+        // the executable name depends on the platform
+        return cmd.getArgs().subList(1, cmd.getArgs().size());
+    }
+
+    private static JReleaserLogger logger(StringWriter output) {
+        return BufferedJReleaserLogger.of(
+            new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
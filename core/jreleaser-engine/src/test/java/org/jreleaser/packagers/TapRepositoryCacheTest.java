@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.packagers;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class TapRepositoryCacheTest {
+    private static final String BATCH_PUBLISH = "jreleaser.packagers.batch.publish";
+
+    @TempDir
+    Path tmp;
+
+    private JReleaserContext context;
+    private String remote;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        System.setProperty(BATCH_PUBLISH, "true");
+        context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            tmp.resolve("basedir"),
+            tmp.resolve("out"),
+            false,
+            false,
+            Collections.emptyList());
+
+        Path bare = tmp.resolve("tap.git");
+        Git.init().setBare(true).setDirectory(bare.toFile()).call().close();
+        remote = bare.toUri().toString();
+
+        try (Git seed = Git.cloneRepository().setURI(remote).setDirectory(tmp.resolve("seed").toFile()).call()) {
+            Files.write(tmp.resolve("seed").resolve("README.md"), "tap".getBytes(StandardCharsets.UTF_8));
+            seed.add().addFilepattern(".").call();
+            seed.commit().setMessage("initial").setAuthor("test", "test@acme.com").call();
+            seed.push().add("HEAD:refs/heads/main").call();
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TapRepositoryCache.discard(context);
+        System.clearProperty(BATCH_PUBLISH);
+    }
+
+    @Test
+    public void batchedChangesArePushedOnFlush() throws Exception {
+        // given:
+        TapRepositoryCache cache = TapRepositoryCache.of(context);
+        stage(cache, "app1.rb", "app1 1.0.0");
+        stage(cache, "app2.rb", "app2 1.0.0");
+
+        // when:
+        TapRepositoryCache.flush(context);
+
+        // then:
+        RevCommit head = head();
+        assertThat(head.getFullMessage(), equalTo("app1 1.0.0\napp2 1.0.0"));
+        assertThat(head.getParentCount(), equalTo(1));
+    }
+
+    @Test
+    public void workingCopyIsClonedOnce() throws Exception {
+        // given:
+        TapRepositoryCache cache = TapRepositoryCache.of(context);
+
+        // when:
+        TapRepositoryCache.WorkingCopy first = cache.checkout(context, "tap", remote, "main", null);
+        first.release();
+        TapRepositoryCache.WorkingCopy second = cache.checkout(context, "tap", remote, "main", null);
+        second.release();
+
+        // then:
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void discardDoesNotPush() throws Exception {
+        // given:
+        TapRepositoryCache cache = TapRepositoryCache.of(context);
+        Path directory = stage(cache, "app1.rb", "app1 1.0.0");
+
+        // when:
+        TapRepositoryCache.discard(context);
+
+        // then:
+        assertThat(head().getFullMessage(), equalTo("initial"));
+        assertThat(Files.exists(directory), equalTo(false));
+    }
+
+    @Test
+    public void failedCloneIsNotCached() throws Exception {
+        // given:
+        TapRepositoryCache cache = TapRepositoryCache.of(context);
+        String missing = tmp.resolve("missing.git").toUri().toString();
+
+        // when:
+        assertThrows(GitAPIException.class, () -> cache.checkout(context, "tap", missing, "main", null));
+        Path bare = tmp.resolve("missing.git");
+        Files.move(tmp.resolve("tap.git"), bare);
+        TapRepositoryCache.WorkingCopy copy = cache.checkout(context, "tap", missing, "main", null);
+        copy.release();
+
+        // then:
+        assertThat(copy.getGit().getRepository().resolve("HEAD"), notNullValue());
+    }
+
+    private Path stage(TapRepositoryCache cache, String file, String message) throws IOException, GitAPIException {
+        TapRepositoryCache.WorkingCopy copy = cache.checkout(context, "tap", remote, "main", null);
+        try {
+            Files.write(copy.getDirectory().resolve(file), message.getBytes(StandardCharsets.UTF_8));
+            copy.getGit().add().addFilepattern(file).call();
+            copy.stage(message, "v-" + file, "test", "test@acme.com", false, null, null);
+            return copy.getDirectory();
+        } finally {
+            copy.release();
+        }
+    }
+
+    private RevCommit head() throws IOException, GitAPIException {
+        try (Git git = Git.open(tmp.resolve("tap.git").toFile())) {
+            return git.log().add(git.getRepository().resolve("refs/heads/main")).setMaxCount(1).call().iterator().next();
+        }
+    }
+}
@@ -52,6 +52,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.stream.Collectors.toList;
@@ -165,10 +166,41 @@ public final class DefaultExtensionManager implements ExtensionManager {
     }
 
     private String resolveJARs(JReleaserContext context, ExtensionDef extensionDef) {
-        Path target = context.getOutputDirectory().resolve("extensions")
-            .resolve(extensionDef.getName())
-            .toAbsolutePath();
+        String[] gav = extensionDef.getGav().split(":");
 
+        try {
+            TemplateResource template = TemplateUtils.resolveTemplate(context.getLogger(), "extensions/pom.xml.tpl");
+
+            String content = IOUtils.toString(template.getReader());
+            String pomContent = content.replaceAll("@groupId@", gav[0])
+                .replaceAll("@artifactId@", gav[1])
+                .replaceAll("@version@", gav[2]);
+
+            // snapshots may change between runs, those are always resolved
+            if (gav[2].endsWith("-SNAPSHOT")) {
+                Path target = context.getOutputDirectory().resolve("extensions")
+                    .resolve(extensionDef.getName())
+                    .toAbsolutePath();
+                FileUtils.deleteFiles(target, true);
+                copyDependencies(context, extensionDef, pomContent, target);
+                return target.toString();
+            }
+
+            ExtensionCache cache = new ExtensionCache(extensionDef.getGav(), pomContent, readMavenSettings(),
+                DefaultVersions.getInstance().getMvnVersion());
+            if (cache.isValid()) {
+                context.getLogger().debug(RB.$("extension.manager.cached.jars", extensionDef.getGav(),
+                    cache.getEntry().toAbsolutePath()));
+            } else {
+                cache.populate(staging -> copyDependencies(context, extensionDef, pomContent, staging));
+            }
+            return cache.getEntry().toAbsolutePath().toString();
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+        }
+    }
+
+    private void copyDependencies(JReleaserContext context, ExtensionDef extensionDef, String pomContent, Path target) throws IOException {
         Mvn mvn = new Mvn(context.asImmutable(), DefaultVersions.getInstance().getMvnVersion());
 
         try {
@@ -180,20 +212,8 @@ public final class DefaultExtensionManager implements ExtensionManager {
         }
 
         try {
-            FileUtils.deleteFiles(target, true);
-
             Path pom = Files.createTempFile("jreleaser-extensions", "pom.xml");
-
-            TemplateResource template = TemplateUtils.resolveTemplate(context.getLogger(), "extensions/pom.xml.tpl");
-
-            String[] gav = extensionDef.getGav().split(":");
-
-            String content = IOUtils.toString(template.getReader());
-            content = content.replaceAll("@groupId@", gav[0])
-                .replaceAll("@artifactId@", gav[1])
-                .replaceAll("@version@", gav[2]);
-
-            Files.write(pom, content.getBytes(), WRITE, TRUNCATE_EXISTING);
+            Files.write(pom, pomContent.getBytes(), WRITE, TRUNCATE_EXISTING);
 
             List<String> args = new ArrayList<>();
             args.add("-B");
@@ -215,11 +235,15 @@ public final class DefaultExtensionManager implements ExtensionManager {
             // copy
             context.getLogger().debug(RB.$("extension.manager.copy.jars", extensionDef.getGav(), context.relativizeToBasedir(target)));
             mvn.invoke(context.getBasedir(), args);
-        } catch (IOException | CommandException e) {
+        } catch (CommandException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
         }
+    }
 
-        return target.toString();
+    private static String readMavenSettings() throws IOException {
+        // repositories and mirrors are configured in settings.xml, changes there invalidate cached entries
+        Path settings = Paths.get(System.getProperty("user.home"), ".m2", "settings.xml");
+        return Files.exists(settings) ? new String(Files.readAllBytes(settings), UTF_8) : "";
     }
 
     private void processExtension(JReleaserContext context, Extension extension, Set<String> visitedExtensionNames, Set<String> visitedExtensionTypes) {
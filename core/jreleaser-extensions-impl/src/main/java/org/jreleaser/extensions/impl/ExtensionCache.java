@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.extensions.impl;
+
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Persistent cache of the jars resolved for an extension GAV.
+ * <p>
+ * Entries live at {@code $JRELEASER_USER_HOME/caches/extensions/<key>} where the key is the SHA-256
+ * of the coordinates and of every input that affects resolution (generated pom, Maven settings,
+ * Maven version).
+ * A manifest records the digest of each jar; an entry is used only when all of them match.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+final class ExtensionCache {
+    private static final String MANIFEST = ".jreleaser-extension.properties";
+    private static final String KEY_GAV = "gav";
+    private static final String KEY_JARS = "jars";
+    private static final String KEY_JAR_PREFIX = "jar.";
+
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path entry;
+    private final String gav;
+
+    ExtensionCache(String gav, String... inputs) throws IOException {
+        this(resolveJReleaserCacheDir(), gav, inputs);
+    }
+
+    ExtensionCache(Path cacheDir, String gav, String... inputs) throws IOException {
+        this.gav = gav;
+        StringBuilder key = new StringBuilder(gav);
+        for (String input : inputs) {
+            key.append('\n').append(null != input ? input : "");
+        }
+        this.entry = cacheDir.resolve("extensions")
+            .resolve(ChecksumUtils.checksum(Algorithm.SHA_256, key.toString().getBytes(UTF_8)));
+    }
+
+    Path getEntry() {
+        return entry;
+    }
+
+    /**
+     * Whether the entry exists and every jar listed in its manifest matches the stored digest.
+     */
+    boolean isValid() {
+        Path file = entry.resolve(MANIFEST);
+        if (!Files.exists(file)) return false;
+
+        Properties manifest = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            manifest.load(in);
+        } catch (IOException e) {
+            return false;
+        }
+
+        String jars = manifest.getProperty(KEY_JARS);
+        if (!gav.equals(manifest.getProperty(KEY_GAV)) || isBlank(jars)) return false;
+
+        try {
+            for (String jar : jars.split(",")) {
+                Path path = entry.resolve(jar);
+                String expected = manifest.getProperty(KEY_JAR_PREFIX + jar);
+                if (!Files.isRegularFile(path) || isBlank(expected) ||
+                    !expected.equals(ChecksumUtils.checksum(Algorithm.SHA_256, path))) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Populates the entry. The populator receives an empty staging directory located next to the
+     * entry and must leave the resolved jars inside it.
+     */
+    void populate(Populator populator) throws IOException {
+        // FileLock is held per JVM, threads within the same process must be serialized separately
+        ReentrantLock lock = LOCKS.computeIfAbsent(entry, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            Files.createDirectories(entry.getParent());
+            Path lockFile = entry.getParent().resolve(entry.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE)) {
+                FileLock fileLock = channel.lock();
+                try {
+                    // another process may have populated the entry while we waited for the lock
+                    if (isValid()) return;
+
+                    Path staging = Files.createTempDirectory(entry.getParent(), entry.getFileName() + ".tmp");
+                    try {
+                        populator.populate(staging);
+
+                        List<Path> jars;
+                        try (Stream<Path> files = Files.list(staging)) {
+                            jars = files.filter(path -> path.getFileName().toString().endsWith(".jar"))
+                                .sorted()
+                                .collect(toList());
+                        }
+
+                        Properties manifest = new Properties();
+                        manifest.setProperty(KEY_GAV, gav);
+                        List<String> names = new ArrayList<>();
+                        for (Path jar : jars) {
+                            String name = jar.getFileName().toString();
+                            names.add(name);
+                            manifest.setProperty(KEY_JAR_PREFIX + name, ChecksumUtils.checksum(Algorithm.SHA_256, jar));
+                        }
+                        manifest.setProperty(KEY_JARS, String.join(",", names));
+
+                        // the manifest goes in last, an entry without it is never considered valid
+                        try (OutputStream out = Files.newOutputStream(staging.resolve(MANIFEST))) {
+                            manifest.store(out, null);
+                        }
+
+                        if (Files.exists(entry)) {
+                            FileUtils.deleteFiles(entry);
+                        }
+                        try {
+                            Files.move(staging, entry, ATOMIC_MOVE);
+                        } catch (AtomicMoveNotSupportedException e) {
+                            Files.move(staging, entry, REPLACE_EXISTING);
+                        }
+                    } finally {
+                        if (Files.exists(staging)) {
+                            FileUtils.deleteFiles(staging);
+                        }
+                    }
+                } finally {
+                    fileLock.release();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static Path resolveJReleaserCacheDir() {
+        String home = System.getenv("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+
+        return Paths.get(home).resolve("caches");
+    }
+
+    interface Populator {
+        void populate(Path staging) throws IOException;
+    }
+}
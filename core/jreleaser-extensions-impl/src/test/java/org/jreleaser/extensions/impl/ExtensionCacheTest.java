@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.extensions.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ExtensionCacheTest {
+    private static final String GAV = "com.acme:acme-extension:1.0.0";
+    private static final String POM = "<project/>";
+
+    @TempDir
+    Path tmp;
+
+    private Path repository;
+    private Path cacheDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        // a file based repository laid out the way Maven stores artifacts
+        repository = tmp.resolve("repository");
+        write(repository.resolve("com/acme/acme-extension/1.0.0/acme-extension-1.0.0.jar"), "extension");
+        write(repository.resolve("com/acme/acme-lib/2.0.0/acme-lib-2.0.0.jar"), "library");
+        cacheDirectory = tmp.resolve("caches");
+    }
+
+    @Test
+    public void populatedEntryIsValid() throws IOException {
+        // given:
+        ExtensionCache cache = cache("3.8.6");
+
+        // when:
+        cache.populate(this::copyDependencies);
+
+        // then:
+        assertThat(cache.isValid(), equalTo(true));
+        assertThat(cache("3.8.6").isValid(), equalTo(true));
+        assertThat(Files.isRegularFile(cache.getEntry().resolve("acme-lib-2.0.0.jar")), equalTo(true));
+    }
+
+    @Test
+    public void otherMavenVersionUsesAnotherEntry() throws IOException {
+        // given:
+        cache("3.8.6").populate(this::copyDependencies);
+
+        // expect:
+        assertThat(cache("3.9.0").getEntry(), not(equalTo(cache("3.8.6").getEntry())));
+        assertThat(cache("3.9.0").isValid(), equalTo(false));
+    }
+
+    @Test
+    public void modifiedJarInvalidatesEntry() throws IOException {
+        // given:
+        ExtensionCache cache = cache("3.8.6");
+        cache.populate(this::copyDependencies);
+
+        // when:
+        write(cache.getEntry().resolve("acme-lib-2.0.0.jar"), "tampered");
+
+        // then:
+        assertThat(cache.isValid(), equalTo(false));
+    }
+
+    @Test
+    public void concurrentPopulateResolvesOnce() throws Exception {
+        // given:
+        AtomicInteger resolutions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when:
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ExtensionCache cache = cache("3.8.6");
+                if (!cache.isValid()) {
+                    cache.populate(staging -> {
+                        resolutions.incrementAndGet();
+                        copyDependencies(staging);
+                    });
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then:
+        assertThat(resolutions.get(), equalTo(1));
+        assertThat(cache("3.8.6").isValid(), equalTo(true));
+    }
+
+    private ExtensionCache cache(String mvnVersion) throws IOException {
+        return new ExtensionCache(cacheDirectory, GAV, POM, "", mvnVersion);
+    }
+
+    private void copyDependencies(Path staging) throws IOException {
+        Files.copy(repository.resolve("com/acme/acme-extension/1.0.0/acme-extension-1.0.0.jar"),
+            staging.resolve("acme-extension-1.0.0.jar"));
+        Files.copy(repository.resolve("com/acme/acme-lib/2.0.0/acme-lib-2.0.0.jar"),
+            staging.resolve("acme-lib-2.0.0.jar"));
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -20,12 +20,20 @@ package org.jreleaser.config;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ServiceProviders;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -33,16 +41,33 @@ import java.util.ServiceLoader;
  */
 public class JReleaserConfigLoader {
     public static JReleaserModel loadConfig(Path configFile) {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
+        return loadConfig(configFile, null);
+    }
+
+    /**
+     * Loads the given config file. When {@code outputDirectory} is set, a stamp is recorded for contents
+     * that passed validation so that later loads of the same contents skip it.
+     *
+     * @since 1.3.0
+     */
+    public static JReleaserModel loadConfig(Path configFile, Path outputDirectory) {
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
             if (parser.supports(configFile)) {
+                // read once, validation and parsing share the same bytes
+                byte[] content;
+                try {
+                    content = Files.readAllBytes(configFile);
+                } catch (IOException e) {
+                    throw new JReleaserException(RB.$("ERROR_parsing_config_file", configFile), e);
+                }
                 try {
-                    parser.validate(configFile);
+                    validate(parser, configFile, content, outputDirectory);
                 } catch (IOException e) {
                     throw new JReleaserException(RB.$("ERROR_invalid_config_file", configFile), e);
                 }
-                try (InputStream inputStream = configFile.toUri().toURL().openStream()) {
+                try (InputStream inputStream = new ByteArrayInputStream(content)) {
                     return parser.parse(inputStream);
                 } catch (IOException e) {
                     throw new JReleaserException(RB.$("ERROR_parsing_config_file", configFile), e);
@@ -52,8 +77,34 @@ public class JReleaserConfigLoader {
         throw new JReleaserException(RB.$("ERROR_unsupported_config_format", configFile));
     }
 
+    private static void validate(JReleaserConfigParser parser, Path configFile, byte[] content, Path outputDirectory) throws IOException {
+        String fingerprint = parser.getValidationFingerprint();
+        Path stamp = null;
+        if (null != outputDirectory && isNotBlank(fingerprint)) {
+            byte[] rules = fingerprint.getBytes(UTF_8);
+            byte[] input = new byte[rules.length + content.length];
+            System.arraycopy(rules, 0, input, 0, rules.length);
+            System.arraycopy(content, 0, input, rules.length, content.length);
+            stamp = outputDirectory.resolve("caches")
+                .resolve("config")
+                .resolve(ChecksumUtils.checksum(Algorithm.SHA_256, input) + ".valid");
+            if (Files.exists(stamp)) return;
+        }
+
+        parser.validate(configFile, content);
+
+        if (null != stamp) {
+            try {
+                Files.createDirectories(stamp.getParent());
+                Files.write(stamp, new byte[0]);
+            } catch (IOException ignored) {
+                // the stamp only saves work on the next run
+            }
+        }
+    }
+
     public static Map<String, String> loadProperties(Path file) throws IOException {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
             if (parser.supports(file)) {
@@ -66,7 +117,7 @@ public class JReleaserConfigLoader {
     }
 
     public static <T> T load(Class<T> type, String resource, InputStream inputStream) throws IOException {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
             if (parser.supports(resource)) {
@@ -63,6 +63,29 @@ public interface JReleaserConfigParser {
      */
     void validate(Path configFile) throws IOException;
 
+    /**
+     * Checks the given contents of the config file for syntax compliance.
+     * Implementors that perform validation should override this method to avoid reading the file again.
+     *
+     * @param configFile the configuration file to inspect
+     * @param content    the contents of the configuration file
+     * @since 1.3.0
+     */
+    default void validate(Path configFile, byte[] content) throws IOException {
+        validate(configFile);
+    }
+
+    /**
+     * Identifies the rules applied by {@code validate}. Contents that passed validation are not
+     * checked again while the fingerprint stays the same.
+     *
+     * @return the fingerprint of the validation rules, {@code null} if results should not be reused.
+     * @since 1.3.0
+     */
+    default String getValidationFingerprint() {
+        return null;
+    }
+
     /**
      * Reads and parses external configuration into a {@code JReleaserModel} instance.
      *
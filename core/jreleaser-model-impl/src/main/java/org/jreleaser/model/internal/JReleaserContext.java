@@ -21,6 +21,7 @@ import org.bouncycastle.openpgp.PGPException;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListener;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.BufferedJReleaserLogger;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.Constants;
 import org.jreleaser.model.JReleaserException;
@@ -355,7 +356,7 @@ public class JReleaserContext {
                             boolean dryrun,
                             boolean gitRootSearch,
                             List<String> selectedPlatforms) {
-        this.logger = logger;
+        this.logger = BufferedJReleaserLogger.of(logger);
         this.configurer = configurer;
         this.mode = mode;
         this.model = model;
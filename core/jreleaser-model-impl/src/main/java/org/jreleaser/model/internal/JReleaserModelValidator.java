@@ -20,6 +20,13 @@ package org.jreleaser.model.internal;
 import org.jreleaser.model.api.JReleaserContext.Mode;
 import org.jreleaser.util.Errors;
 
+import static org.jreleaser.model.api.JReleaserCommand.DOWNLOAD;
+import static org.jreleaser.model.api.JReleaserCommand.supportsAnnounce;
+import static org.jreleaser.model.api.JReleaserCommand.supportsDeploy;
+import static org.jreleaser.model.api.JReleaserCommand.supportsPrepare;
+import static org.jreleaser.model.api.JReleaserCommand.supportsRelease;
+import static org.jreleaser.model.api.JReleaserCommand.supportsSign;
+import static org.jreleaser.model.api.JReleaserCommand.supportsUpload;
 import static org.jreleaser.model.internal.validation.announce.AnnouncersValidator.validateAnnouncers;
 import static org.jreleaser.model.internal.validation.assemble.AssemblersValidator.postValidateAssemblers;
 import static org.jreleaser.model.internal.validation.assemble.AssemblersValidator.validateAssemblers;
@@ -32,6 +39,7 @@ import static org.jreleaser.model.internal.validation.extensions.ExtensionsValid
 import static org.jreleaser.model.internal.validation.files.FilesValidator.validateFiles;
 import static org.jreleaser.model.internal.validation.hooks.HooksValidator.validateHooks;
 import static org.jreleaser.model.internal.validation.packagers.PackagersValidator.validatePackagers;
+import static org.jreleaser.model.internal.validation.packagers.PackagersValidator.validateSdkmanPackager;
 import static org.jreleaser.model.internal.validation.project.ProjectValidator.postValidateProject;
 import static org.jreleaser.model.internal.validation.project.ProjectValidator.validateProject;
 import static org.jreleaser.model.internal.validation.release.ReleaseValidator.validateRelease;
@@ -63,20 +71,34 @@ public final class JReleaserModelValidator {
         validateExtensions(context, mode, errors);
         validateHooks(context, mode, errors);
         validateProject(context, mode, errors);
-        validateDownloaders(context, mode, errors);
+        if (isReachable(context, mode, DOWNLOAD == context.getCommand())) validateDownloaders(context, mode, errors);
         validateAssemblers(context, mode, errors);
         if (context.getModel().getCommit() != null) {
-            validateSigning(context, mode, errors);
+            if (isReachable(context, mode, supportsSign(context.getCommand()) || supportsDeploy(context.getCommand()))) {
+                validateSigning(context, mode, errors);
+            } else {
+                // releasers check whether signing is enabled
+                context.getModel().getSigning().resolveEnabled(context.getModel().getProject());
+            }
             validateRelease(context, mode, errors);
         }
 
         validateChecksum(context, mode, errors);
-        validateDeploy(context, mode, errors);
-        validateUploaders(context, mode, errors);
-        validatePackagers(context, mode, errors);
+        if (isReachable(context, mode, supportsDeploy(context.getCommand()))) validateDeploy(context, mode, errors);
+        if (isReachable(context, mode, supportsUpload(context.getCommand()) ||
+            supportsRelease(context.getCommand()) ||
+            supportsPrepare(context.getCommand()) ||
+            supportsAnnounce(context.getCommand()))) {
+            validateUploaders(context, mode, errors);
+        }
+        if (validatesPackagers(context, mode)) {
+            validatePackagers(context, mode, errors);
+        } else if (validatesSdkmanPackager(context, mode)) {
+            validateSdkmanPackager(context, mode, errors);
+        }
         validateDistributions(context, mode, errors);
         validateFiles(context, mode, errors);
-        validateAnnouncers(context, mode, errors);
+        if (isReachable(context, mode, supportsAnnounce(context.getCommand()))) validateAnnouncers(context, mode, errors);
 
         context.getLogger().setPrefix("postvalidation");
         try {
@@ -87,4 +109,31 @@ public final class JReleaserModelValidator {
             context.getLogger().restorePrefix();
         }
     }
+
+    /**
+     * Whether packagers should be validated. Commands that do not reach the prepare step
+     * (e.g. checksum, sign, upload) skip them.
+     *
+     * @since 1.3.0
+     */
+    public static boolean validatesPackagers(JReleaserContext context, Mode mode) {
+        return isReachable(context, mode, supportsPrepare(context.getCommand()));
+    }
+
+    /**
+     * Whether the SDKMAN packager should be validated. Besides the commands that reach the
+     * prepare step, announce needs it too: the SDKMAN announcer publishes the candidates
+     * configured by the SDKMAN packager of each distribution.
+     *
+     * @since 1.3.0
+     */
+    public static boolean validatesSdkmanPackager(JReleaserContext context, Mode mode) {
+        return isReachable(context, mode, supportsPrepare(context.getCommand()) ||
+            supportsAnnounce(context.getCommand()));
+    }
+
+    private static boolean isReachable(JReleaserContext context, Mode mode, boolean reachable) {
+        // config and partial modes keep their own rules, the whole model is validated when no command is set
+        return mode != Mode.FULL || null == context.getCommand() || reachable;
+    }
 }
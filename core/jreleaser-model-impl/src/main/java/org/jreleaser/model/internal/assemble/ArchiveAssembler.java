@@ -22,6 +22,7 @@ import org.jreleaser.model.Archive;
 import org.jreleaser.model.Distribution;
 import org.jreleaser.model.Stereotype;
 import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.common.ArchiveOptions;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.common.FileSet;
 import org.jreleaser.util.PlatformUtils;
@@ -44,6 +45,7 @@ import static org.jreleaser.mustache.Templates.resolveTemplate;
  */
 public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler, org.jreleaser.model.api.assemble.ArchiveAssembler> {
     private final Set<Archive.Format> formats = new LinkedHashSet<>();
+    private final ArchiveOptions options = new ArchiveOptions();
 
     private String archiveName;
     private Boolean attachPlatform;
@@ -68,6 +70,11 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
             return unmodifiableSet(formats);
         }
 
+        @Override
+        public org.jreleaser.model.api.common.ArchiveOptions getOptions() {
+            return options.asImmutable();
+        }
+
         @Override
         public org.jreleaser.model.api.platform.Platform getPlatform() {
             return platform.asImmutable();
@@ -173,6 +180,7 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
         this.distributionType = merge(source.distributionType, source.distributionType);
         this.attachPlatform = merge(source.attachPlatform, source.attachPlatform);
         setFormats(merge(this.formats, source.formats));
+        setOptions(source.options);
     }
 
     public String getResolvedArchiveName(JReleaserContext context) {
@@ -222,11 +230,20 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
         this.formats.add(Archive.Format.of(str));
     }
 
+    public ArchiveOptions getOptions() {
+        return options;
+    }
+
+    public void setOptions(ArchiveOptions options) {
+        this.options.merge(options);
+    }
+
     @Override
     protected void asMap(boolean full, Map<String, Object> props) {
         props.put("archiveName", archiveName);
         props.put("distributionType", distributionType);
         props.put("attachPlatform", isAttachPlatform());
         props.put("formats", formats);
+        props.put("options", options.asMap(full));
     }
 }
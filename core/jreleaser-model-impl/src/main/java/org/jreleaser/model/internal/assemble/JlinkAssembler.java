@@ -22,6 +22,7 @@ import org.jreleaser.model.Distribution;
 import org.jreleaser.model.Stereotype;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.AbstractModelObject;
+import org.jreleaser.model.internal.common.ArchiveOptions;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.common.Domain;
 import org.jreleaser.model.internal.common.EnabledAware;
@@ -55,6 +56,7 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
     private final List<String> args = new ArrayList<>();
     private final Artifact jdk = new Artifact();
     private final Jdeps jdeps = new Jdeps();
+    private final ArchiveOptions options = new ArchiveOptions();
 
     private String imageName;
     private String imageNameTransform;
@@ -112,6 +114,11 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
             return JlinkAssembler.this.isCopyJars();
         }
 
+        @Override
+        public org.jreleaser.model.api.common.ArchiveOptions getOptions() {
+            return options.asImmutable();
+        }
+
         @Override
         public String getExecutable() {
             return executable;
@@ -249,6 +256,7 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
         this.imageNameTransform = merge(this.imageNameTransform, source.imageNameTransform);
         this.copyJars = merge(this.copyJars, source.copyJars);
         setJdeps(source.jdeps);
+        setOptions(source.options);
         setJdk(source.jdk);
         setTargetJdks(merge(this.targetJdks, source.targetJdks));
         setModuleNames(merge(this.moduleNames, source.moduleNames));
@@ -355,6 +363,14 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
         return copyJars != null;
     }
 
+    public ArchiveOptions getOptions() {
+        return options;
+    }
+
+    public void setOptions(ArchiveOptions options) {
+        this.options.merge(options);
+    }
+
     @Override
     protected void asMap(boolean full, Map<String, Object> props) {
         super.asMap(full, props);
@@ -372,6 +388,7 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
         props.put("jdk", jdk.asMap(full));
         props.put("targetJdks", mappedJdks);
         props.put("copyJars", isCopyJars());
+        props.put("options", options.asMap(full));
     }
 
     public static final class Jdeps extends AbstractModelObject<Jdeps> implements Domain, EnabledAware {
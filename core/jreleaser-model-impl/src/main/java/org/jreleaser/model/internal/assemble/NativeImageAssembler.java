@@ -25,6 +25,7 @@ import org.jreleaser.model.Stereotype;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.AbstractModelObject;
 import org.jreleaser.model.internal.common.Activatable;
+import org.jreleaser.model.internal.common.ArchiveOptions;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.common.Domain;
 import org.jreleaser.model.internal.common.FileSet;
@@ -60,6 +61,7 @@ public final class NativeImageAssembler extends AbstractJavaAssembler<NativeImag
     private final Linux linux = new Linux();
     private final Windows windows = new Windows();
     private final Osx osx = new Osx();
+    private final ArchiveOptions options = new ArchiveOptions();
 
     private String imageName;
     private String imageNameTransform;
@@ -127,6 +129,11 @@ public final class NativeImageAssembler extends AbstractJavaAssembler<NativeImag
             return osx.asImmutable();
         }
 
+        @Override
+        public org.jreleaser.model.api.common.ArchiveOptions getOptions() {
+            return options.asImmutable();
+        }
+
         @Override
         public String getExecutable() {
             return executable;
@@ -270,6 +277,7 @@ public final class NativeImageAssembler extends AbstractJavaAssembler<NativeImag
         setLinux(source.linux);
         setWindows(source.windows);
         setOsx(source.osx);
+        setOptions(source.options);
     }
 
     public String getResolvedImageName(JReleaserContext context) {
@@ -391,12 +399,21 @@ public final class NativeImageAssembler extends AbstractJavaAssembler<NativeImag
         this.osx.merge(osx);
     }
 
+    public ArchiveOptions getOptions() {
+        return options;
+    }
+
+    public void setOptions(ArchiveOptions options) {
+        this.options.merge(options);
+    }
+
     @Override
     protected void asMap(boolean full, Map<String, Object> props) {
         super.asMap(full, props);
         props.put("imageName", imageName);
         props.put("imageNameTransform", imageNameTransform);
         props.put("archiveFormat", archiveFormat);
+        props.put("options", options.asMap(full));
         Map<String, Map<String, Object>> mappedJdks = new LinkedHashMap<>();
         int i = 0;
         for (Artifact graalJdk : getGraalJdks()) {
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal.common;
+
+import org.jreleaser.util.FileUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ArchiveOptions extends AbstractModelObject<ArchiveOptions> implements Domain {
+    private Integer compressionLevel;
+    private Integer compressionThreads;
+    private Boolean reproducible;
+
+    private final org.jreleaser.model.api.common.ArchiveOptions immutable = new org.jreleaser.model.api.common.ArchiveOptions() {
+        @Override
+        public Integer getCompressionLevel() {
+            return compressionLevel;
+        }
+
+        @Override
+        public Integer getCompressionThreads() {
+            return compressionThreads;
+        }
+
+        @Override
+        public boolean isReproducible() {
+            return ArchiveOptions.this.isReproducible();
+        }
+
+        @Override
+        public Map<String, Object> asMap(boolean full) {
+            return unmodifiableMap(ArchiveOptions.this.asMap(full));
+        }
+    };
+
+    public org.jreleaser.model.api.common.ArchiveOptions asImmutable() {
+        return immutable;
+    }
+
+    @Override
+    public void merge(ArchiveOptions source) {
+        this.compressionLevel = merge(this.compressionLevel, source.compressionLevel);
+        this.compressionThreads = merge(this.compressionThreads, source.compressionThreads);
+        this.reproducible = merge(this.reproducible, source.reproducible);
+    }
+
+    public Integer getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(Integer compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public Integer getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    public void setCompressionThreads(Integer compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
+
+    public boolean isReproducible() {
+        return reproducible != null && reproducible;
+    }
+
+    public void setReproducible(Boolean reproducible) {
+        this.reproducible = reproducible;
+    }
+
+    public boolean isReproducibleSet() {
+        return reproducible != null;
+    }
+
+    public FileUtils.ArchiveOptions toOptions() {
+        return new FileUtils.ArchiveOptions()
+            .withCompressionLevel(compressionLevel)
+            .withCompressionThreads(compressionThreads)
+            .withReproducible(isReproducible());
+    }
+
+    @Override
+    public Map<String, Object> asMap(boolean full) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("compressionLevel", compressionLevel);
+        map.put("compressionThreads", compressionThreads);
+        map.put("reproducible", isReproducible());
+        return map;
+    }
+}
@@ -25,6 +25,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.AbstractModelObject;
 import org.jreleaser.model.internal.common.Domain;
 import org.jreleaser.util.Env;
+import org.jreleaser.util.ServiceProviders;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -33,10 +34,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.ServiceLoader;
 
 import static java.util.Collections.unmodifiableMap;
 import static org.jreleaser.util.StringUtils.getPropertyNameForLowerCaseHyphenSeparatedName;
@@ -194,7 +195,7 @@ public final class Environment extends AbstractModelObject<Environment> implemen
     }
 
     private Optional<Path> resolveConfigFileAt(Path directory) {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class,
             JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
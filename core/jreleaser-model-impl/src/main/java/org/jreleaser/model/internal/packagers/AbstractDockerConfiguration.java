@@ -46,6 +46,8 @@ public abstract class AbstractDockerConfiguration<S extends AbstractDockerConfig
     protected final Map<String, String> labels = new LinkedHashMap<>();
     protected final Set<String> imageNames = new LinkedHashSet<>();
     protected final List<String> buildArgs = new ArrayList<>();
+    protected final List<String> cacheFrom = new ArrayList<>();
+    protected final List<String> cacheTo = new ArrayList<>();
     protected final List<String> preCommands = new ArrayList<>();
     protected final List<String> postCommands = new ArrayList<>();
     protected final Set<Registry> registries = new LinkedHashSet<>();
@@ -70,6 +72,8 @@ public abstract class AbstractDockerConfiguration<S extends AbstractDockerConfig
         this.useLocalArtifact = merge(this.useLocalArtifact, source.useLocalArtifact);
         setImageNames(merge(this.imageNames, source.imageNames));
         setBuildArgs(merge(this.buildArgs, source.buildArgs));
+        setCacheFrom(merge(this.cacheFrom, source.cacheFrom));
+        setCacheTo(merge(this.cacheTo, source.cacheTo));
         setPreCommands(merge(this.preCommands, source.preCommands));
         setPostCommands(merge(this.postCommands, source.postCommands));
         setLabels(merge(this.labels, source.labels));
@@ -237,6 +241,30 @@ public abstract class AbstractDockerConfiguration<S extends AbstractDockerConfig
         }
     }
 
+    @Override
+    public List<String> getCacheFrom() {
+        return cacheFrom;
+    }
+
+    public void setCacheFrom(List<String> cacheFrom) {
+        if (cacheFrom != null) {
+            this.cacheFrom.clear();
+            this.cacheFrom.addAll(cacheFrom);
+        }
+    }
+
+    @Override
+    public List<String> getCacheTo() {
+        return cacheTo;
+    }
+
+    public void setCacheTo(List<String> cacheTo) {
+        if (cacheTo != null) {
+            this.cacheTo.clear();
+            this.cacheTo.addAll(cacheTo);
+        }
+    }
+
     @Override
     public List<String> getPreCommands() {
         return preCommands;
@@ -303,6 +331,8 @@ public abstract class AbstractDockerConfiguration<S extends AbstractDockerConfig
         props.put("baseImage", baseImage);
         props.put("imageNames", imageNames);
         props.put("buildArgs", buildArgs);
+        props.put("cacheFrom", cacheFrom);
+        props.put("cacheTo", cacheTo);
         props.put("labels", labels);
         props.put("preCommands", preCommands);
         props.put("postCommands", postCommands);
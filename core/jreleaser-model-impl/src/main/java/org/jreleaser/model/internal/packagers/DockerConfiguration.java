@@ -83,6 +83,14 @@ public interface DockerConfiguration extends Domain, ExtraProperties, Activatabl
 
     void addBuildArg(String buildArg);
 
+    List<String> getCacheFrom();
+
+    void setCacheFrom(List<String> cacheFrom);
+
+    List<String> getCacheTo();
+
+    void setCacheTo(List<String> cacheTo);
+
     List<String> getPreCommands();
 
     void setPreCommands(List<String> preCommands);
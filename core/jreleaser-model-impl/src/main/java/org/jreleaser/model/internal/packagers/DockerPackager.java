@@ -136,6 +136,16 @@ public final class DockerPackager extends AbstractDockerConfiguration<DockerPack
             return unmodifiableList(buildArgs);
         }
 
+        @Override
+        public List<String> getCacheFrom() {
+            return unmodifiableList(cacheFrom);
+        }
+
+        @Override
+        public List<String> getCacheTo() {
+            return unmodifiableList(cacheTo);
+        }
+
         @Override
         public List<String> getPreCommands() {
             return unmodifiableList(preCommands);
@@ -89,6 +89,16 @@ public final class DockerSpec extends AbstractDockerConfiguration<DockerSpec> im
             return unmodifiableList(buildArgs);
         }
 
+        @Override
+        public List<String> getCacheFrom() {
+            return unmodifiableList(cacheFrom);
+        }
+
+        @Override
+        public List<String> getCacheTo() {
+            return unmodifiableList(cacheTo);
+        }
+
         @Override
         public List<String> getPreCommands() {
             return unmodifiableList(preCommands);
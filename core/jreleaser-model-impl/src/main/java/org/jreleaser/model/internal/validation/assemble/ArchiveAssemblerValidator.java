@@ -30,6 +30,7 @@ import org.jreleaser.util.Errors;
 
 import java.util.Map;
 
+import static org.jreleaser.model.internal.validation.common.ArchiveOptionsValidator.validateArchiveOptions;
 import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
@@ -84,6 +85,8 @@ public abstract class ArchiveAssemblerValidator extends Validator {
             archive.addFormat(Archive.Format.ZIP);
         }
 
+        validateArchiveOptions(context, archive.getOptions(), "archive." + archive.getName(), errors);
+
         if (archive.getFileSets().isEmpty()) {
             errors.configuration(RB.$("validation_archive_empty_fileset", archive.getName()));
         } else {
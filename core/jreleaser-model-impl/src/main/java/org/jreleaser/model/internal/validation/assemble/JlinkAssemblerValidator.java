@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static java.util.stream.Collectors.groupingBy;
+import static org.jreleaser.model.internal.validation.common.ArchiveOptionsValidator.validateArchiveOptions;
 import static org.jreleaser.model.internal.validation.common.TemplateValidator.validateTemplate;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -92,6 +93,8 @@ public abstract class JlinkAssemblerValidator extends Validator {
             jlink.setExecutable(jlink.getName());
         }
 
+        validateArchiveOptions(context, jlink.getOptions(), "jlink." + jlink.getName(), errors);
+
         int i = 0;
         for (Artifact targetJdk : jlink.getTargetJdks()) {
             validateJdk(context, mode, jlink, targetJdk, i++, errors);
@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static java.util.stream.Collectors.groupingBy;
+import static org.jreleaser.model.internal.validation.common.ArchiveOptionsValidator.validateArchiveOptions;
 import static org.jreleaser.model.internal.validation.common.TemplateValidator.validateTemplate;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -153,6 +154,8 @@ public abstract class NativeImageAssemblerValidator extends Validator {
             nativeImage.setArchiveFormat(Archive.Format.ZIP);
         }
 
+        validateArchiveOptions(context, nativeImage.getOptions(), "nativeImage." + nativeImage.getName(), errors);
+
         validateGlobs(context,
             nativeImage.getJars(),
             "nativeImage." + nativeImage.getName() + ".jars",
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal.validation.common;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.common.ArchiveOptions;
+import org.jreleaser.util.Errors;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public abstract class ArchiveOptionsValidator extends Validator {
+    public static void validateArchiveOptions(JReleaserContext context, ArchiveOptions options, String prefix, Errors errors) {
+        context.getLogger().debug("{}.options", prefix);
+
+        Integer level = options.getCompressionLevel();
+        if (null != level && (level < 0 || level > 9)) {
+            errors.configuration(RB.$("validation_archive_options_compression_level", prefix + ".options.compressionLevel", level));
+        }
+
+        Integer threads = options.getCompressionThreads();
+        if (null != threads && threads < 0) {
+            errors.configuration(RB.$("validation_value_cannot_be", prefix + ".options.compressionThreads", threads));
+        }
+    }
+}
@@ -38,6 +38,8 @@ import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.groupingBy;
 import static org.jreleaser.model.api.release.Releaser.KEY_SKIP_RELEASE_SIGNATURES;
+import static org.jreleaser.model.internal.JReleaserModelValidator.validatesPackagers;
+import static org.jreleaser.model.internal.JReleaserModelValidator.validatesSdkmanPackager;
 import static org.jreleaser.model.internal.validation.packagers.AppImagePackagerValidator.validateAppImage;
 import static org.jreleaser.model.internal.validation.packagers.AsdfPackagerValidator.validateAsdf;
 import static org.jreleaser.model.internal.validation.packagers.BrewPackagerValidator.postValidateBrew;
@@ -82,9 +84,11 @@ public abstract class DistributionsValidator extends Validator {
             }
         }
 
-        if (mode.validateConfig()) {
+        if (mode.validateConfig() && validatesPackagers(context, mode)) {
             postValidateBrew(context, errors);
             postValidateJBang(context, errors);
+        }
+        if (mode.validateConfig() && validatesSdkmanPackager(context, mode)) {
             postValidateSdkman(context, errors);
         }
     }
@@ -193,6 +197,13 @@ public abstract class DistributionsValidator extends Validator {
                 });
         });
 
+        if (!validatesPackagers(context, mode)) {
+            if (validatesSdkmanPackager(context, mode)) {
+                validateSdkman(context, distribution, distribution.getSdkman(), errors);
+            }
+            return;
+        }
+
         validateAppImage(context, mode, distribution, distribution.getAppImage(), errors);
         validateAsdf(context, distribution, distribution.getAsdf(), errors);
         validateBrew(context, distribution, distribution.getBrew(), errors);
@@ -331,7 +342,7 @@ public abstract class DistributionsValidator extends Validator {
 
         for (Map.Entry<String, Distribution> e : distributions.entrySet()) {
             Distribution distribution = e.getValue();
-            if (distribution.isEnabled()) {
+            if (distribution.isEnabled() && validatesPackagers(context, mode)) {
                 postValidateDistribution(context, distribution, errors);
             }
         }
@@ -269,6 +269,14 @@ public abstract class DockerPackagerValidator extends Validator {
             self.setBuildArgs(other.getBuildArgs());
         }
 
+        if (self.getCacheFrom().isEmpty() && !other.getCacheFrom().isEmpty()) {
+            self.setCacheFrom(other.getCacheFrom());
+        }
+
+        if (self.getCacheTo().isEmpty() && !other.getCacheTo().isEmpty()) {
+            self.setCacheTo(other.getCacheTo());
+        }
+
         if (self.getPreCommands().isEmpty() && !other.getPreCommands().isEmpty()) {
             self.setPreCommands(other.getPreCommands());
         }
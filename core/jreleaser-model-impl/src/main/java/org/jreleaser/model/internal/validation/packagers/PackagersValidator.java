@@ -177,6 +177,15 @@ public abstract class PackagersValidator extends Validator {
         validateSdkman(context, packagers.getSdkman(), errors);
     }
 
+    public static void validateSdkmanPackager(JReleaserContext context, Mode mode, Errors errors) {
+        if (!mode.validateConfig()) {
+            return;
+        }
+        context.getLogger().debug("packagers.sdkman");
+
+        validateSdkman(context, context.getModel().getPackagers().getSdkman(), errors);
+    }
+
     private static void validateSdkman(JReleaserContext context, SdkmanPackager packager, Errors errors) {
         packager.resolveEnabled(context.getModel().getProject());
         validateTimeout(packager);
@@ -27,11 +27,17 @@ public class Commit {
     private final String shortHash;
     private final String fullHash;
     private final String refName;
+    private final long timestamp;
 
     public Commit(String shortHash, String fullHash, String refName) {
+        this(shortHash, fullHash, refName, 0L);
+    }
+
+    public Commit(String shortHash, String fullHash, String refName, long timestamp) {
         this.shortHash = shortHash;
         this.fullHash = fullHash;
         this.refName = refName;
+        this.timestamp = timestamp;
     }
 
     public String getShortHash() {
@@ -46,6 +52,10 @@ public class Commit {
         return refName;
     }
 
+    public long getTimestamp() {
+        return timestamp;
+    }
+
     @Override
     public String toString() {
         return "Commit[" +
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.config;
+
+import org.jreleaser.model.JReleaserException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class JReleaserConfigLoaderTest {
+    @TempDir
+    Path tmp;
+
+    private Path configFile;
+    private Path outputDirectory;
+
+    @BeforeEach
+    public void setup() {
+        RecordingConfigParser.VALIDATIONS.set(0);
+        RecordingConfigParser.fingerprint = "stub-1";
+        configFile = tmp.resolve("jreleaser.stub");
+        outputDirectory = tmp.resolve("out");
+    }
+
+    @Test
+    public void unchangedConfigIsValidatedOnce() throws IOException {
+        // given:
+        write("project: app");
+
+        // when:
+        JReleaserConfigLoader.loadConfig(configFile, outputDirectory);
+        JReleaserConfigLoader.loadConfig(configFile, outputDirectory);
+
+        // then:
+        assertThat(RecordingConfigParser.VALIDATIONS.get(), equalTo(1));
+        assertThat(stamps(), equalTo(1L));
+    }
+
+    @Test
+    public void changedConfigIsValidatedAgain() throws IOException {
+        // given:
+        write("project: app");
+        JReleaserConfigLoader.loadConfig(configFile, outputDirectory);
+
+        // when:
+        write("project: app2");
+        JReleaserConfigLoader.loadConfig(configFile, outputDirectory);
+
+        // then:
+        assertThat(RecordingConfigParser.VALIDATIONS.get(), equalTo(2));
+        assertThat(stamps(), equalTo(2L));
+    }
+
+    @Test
+    public void changedRulesValidateAgain() throws IOException {
+        // given:
+        write("project: app");
+        JReleaserConfigLoader.loadConfig(configFile, outputDirectory);
+
+        // when:
+        RecordingConfigParser.fingerprint = "stub-2";
+        JReleaserConfigLoader.loadConfig(configFile, outputDirectory);
+
+        // then:
+        assertThat(RecordingConfigParser.VALIDATIONS.get(), equalTo(2));
+    }
+
+    @Test
+    public void failedValidationIsNotStamped() throws IOException {
+        // given:
+        write("project: invalid");
+
+        // when:
+        assertThrows(JReleaserException.class, () -> JReleaserConfigLoader.loadConfig(configFile, outputDirectory));
+        assertThrows(JReleaserException.class, () -> JReleaserConfigLoader.loadConfig(configFile, outputDirectory));
+
+        // then:
+        assertThat(RecordingConfigParser.VALIDATIONS.get(), equalTo(2));
+        assertThat(stamps(), equalTo(0L));
+    }
+
+    @Test
+    public void configIsAlwaysValidatedWithoutOutputDirectory() throws IOException {
+        // given:
+        write("project: app");
+
+        // when:
+        JReleaserConfigLoader.loadConfig(configFile, null);
+        JReleaserConfigLoader.loadConfig(configFile, null);
+
+        // then:
+        assertThat(RecordingConfigParser.VALIDATIONS.get(), equalTo(2));
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(configFile, content.getBytes(UTF_8));
+    }
+
+    private long stamps() throws IOException {
+        Path stamps = outputDirectory.resolve("caches").resolve("config");
+        if (!Files.isDirectory(stamps)) return 0;
+        try (Stream<Path> files = Files.list(stamps)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.config;
+
+import org.jreleaser.model.internal.JReleaserModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Counts validations of {@code .stub} config files, rejecting contents that contain {@code invalid}.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class RecordingConfigParser implements JReleaserConfigParser {
+    static final AtomicInteger VALIDATIONS = new AtomicInteger();
+    static volatile String fingerprint = "stub-1";
+
+    @Override
+    public String getPreferredFileExtension() {
+        return "stub";
+    }
+
+    @Override
+    public boolean supports(Path configFile) {
+        return supports(configFile.getFileName().toString());
+    }
+
+    @Override
+    public boolean supports(String resource) {
+        return resource.endsWith(".stub");
+    }
+
+    @Override
+    public void validate(Path configFile) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void validate(Path configFile, byte[] content) throws IOException {
+        VALIDATIONS.incrementAndGet();
+        if (new String(content, UTF_8).contains("invalid")) {
+            throw new IOException("invalid contents");
+        }
+    }
+
+    @Override
+    public String getValidationFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public JReleaserModel parse(InputStream inputStream) {
+        return new JReleaserModel();
+    }
+
+    @Override
+    public <T> T load(Class<T> type, InputStream inputStream) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<String, String> properties(InputStream inputStream) {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.Active;
+import org.jreleaser.model.api.JReleaserCommand;
+import org.jreleaser.model.internal.common.Artifact;
+import org.jreleaser.model.internal.distributions.Distribution;
+import org.jreleaser.model.internal.release.GithubReleaser;
+import org.jreleaser.util.Errors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class JReleaserModelValidatorTest {
+    @TempDir
+    Path basedir;
+
+    @Test
+    public void announceResolvesSdkmanPackagers() throws IOException {
+        // given:
+        JReleaserContext context = createContext(JReleaserCommand.ANNOUNCE);
+
+        // when:
+        Errors errors = context.validateModel();
+
+        // then:
+        assertThat(errors.asString(), errors.hasErrors(), equalTo(false));
+        Distribution distribution = context.getModel().getDistributions().get("app");
+        assertThat(context.getModel().getPackagers().getSdkman().isEnabled(), equalTo(true));
+        assertThat(distribution.getSdkman().isEnabled(), equalTo(true));
+        assertThat(distribution.getSdkman().getCandidate(), equalTo("app"));
+        assertThat(context.getModel().getAnnounce().getSdkman().isEnabled(), equalTo(true));
+    }
+
+    @Test
+    public void announceSkipsOtherPackagers() throws IOException {
+        // given:
+        JReleaserContext context = createContext(JReleaserCommand.ANNOUNCE);
+
+        // when:
+        context.validateModel();
+
+        // then:
+        assertThat(context.getModel().getDistributions().get("app").getBrew().isEnabled(), equalTo(false));
+    }
+
+    @Test
+    public void checksumSkipsPackagers() throws IOException {
+        // given:
+        JReleaserContext context = createContext(JReleaserCommand.CHECKSUM);
+
+        // when:
+        Errors errors = context.validateModel();
+
+        // then:
+        assertThat(errors.asString(), errors.hasErrors(), equalTo(false));
+        assertThat(context.getModel().getDistributions().get("app").getSdkman().isEnabled(), equalTo(false));
+    }
+
+    @Test
+    public void duplicateSdkmanCandidatesAreReportedOnAnnounce() throws IOException {
+        // given:
+        JReleaserContext context = createContext(JReleaserCommand.ANNOUNCE);
+        Distribution other = createDistribution("other", "other-1.0.0.zip");
+        other.getSdkman().setCandidate("app");
+        context.getModel().getDistributions().put("other", other);
+
+        // when:
+        Errors errors = context.validateModel();
+
+        // then:
+        assertThat(errors.asString(), errors.asString().contains("sdkman.candidate app"), equalTo(true));
+    }
+
+    private JReleaserContext createContext(JReleaserCommand command) throws IOException {
+        JReleaserModel model = new JReleaserModel();
+        model.setCommit(new org.jreleaser.model.api.JReleaserModel.Commit("abc1234", "abc1234abc1234abc1234abc1234abc1234abc12", "main"));
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        model.getProject().setDescription("app");
+        model.getProject().setAuthors(Collections.singletonList("Duke"));
+        model.getProject().setLicense("Apache-2.0");
+        model.getProject().setCopyright("2022 Acme");
+        model.getProject().getLinks().setHomepage("https://acme.com/app");
+        model.getProject().getJava().setGroupId("com.acme");
+        model.getProject().getJava().setVersion("8");
+
+        GithubReleaser github = new GithubReleaser();
+        github.setOwner("acme");
+        github.setName("app");
+        github.setToken("token");
+        model.getRelease().setGithub(github);
+
+        model.getPackagers().getSdkman().setActive(Active.ALWAYS);
+        model.getPackagers().getSdkman().setConsumerKey("key");
+        model.getPackagers().getSdkman().setConsumerToken("token");
+        model.getAnnounce().getSdkman().setActive(Active.ALWAYS);
+        model.getAnnounce().getSdkman().setConsumerKey("key");
+        model.getAnnounce().getSdkman().setConsumerToken("token");
+
+        model.getDistributions().put("app", createDistribution("app", "app-1.0.0.zip"));
+
+        JReleaserContext context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI_YAML,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            model,
+            basedir,
+            basedir.resolve("out"),
+            true,
+            false,
+            Collections.emptyList());
+        context.setCommand(command);
+        return context;
+    }
+
+    private Distribution createDistribution(String name, String fileName) throws IOException {
+        Files.write(basedir.resolve(fileName), new byte[0]);
+        Artifact artifact = new Artifact();
+        artifact.setPath(fileName);
+
+        Distribution distribution = new Distribution();
+        distribution.setType(org.jreleaser.model.Distribution.DistributionType.JAVA_BINARY);
+        distribution.addArtifact(artifact);
+        return distribution;
+    }
+}
@@ -31,11 +31,21 @@ import org.jreleaser.util.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.twdata.maven.mojoexecutor.MojoExecutor.configuration;
 import static org.twdata.maven.mojoexecutor.MojoExecutor.element;
 import static org.twdata.maven.mojoexecutor.MojoExecutor.executeMojo;
@@ -45,11 +55,25 @@ import static org.twdata.maven.mojoexecutor.MojoExecutor.plugin;
 
 /**
  * Downloads, verifies, and unpacks JDKs.
+ * <p>
+ * A marker file is written next to every JDK once it has been verified and extracted. The marker
+ * records the expected checksum, so a JDK whose configuration did not change is skipped entirely.
+ * Instances may be shared across threads. Setups targeting the same directory are serialized,
+ * setups targeting different directories run concurrently. {@code file:} URLs are copied directly;
+ * remote URLs are fetched by a nested plugin execution which mutates the shared {@code MavenSession},
+ * only that execution is serialized.
  *
  * @author Andres Almiray
  * @since 0.9.0
  */
 public class JdkHelper {
+    private static final String MARKER = ".jreleaser-jdk.properties";
+    private static final String KEY_FILENAME = "filename";
+    private static final String KEY_DIRNAME = "dirname";
+    private static final String KEY_CHECKSUM = "checksum";
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+    private static final Object SESSION_LOCK = new Object();
+
     private final MavenProject project;
     private final Log log;
     private final File outputDirectory;
@@ -70,6 +94,31 @@ public class JdkHelper {
 
     public void setupJdk(Jdk jdk) throws MojoExecutionException {
         File jdkExtractDirectory = new File(outputDirectory, jdk.getName());
+        Path target = jdkExtractDirectory.toPath().toAbsolutePath().normalize();
+
+        ReentrantLock lock = LOCKS.computeIfAbsent(target, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            doSetupJdk(jdkExtractDirectory, jdk);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void doSetupJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
+        File jdkDir = new File(jdkExtractDirectory, getDirname(jdk));
+        Path marker = jdkExtractDirectory.toPath().resolve(MARKER);
+
+        if (isUpToDate(marker, jdkDir, jdk)) {
+            log.info(jdk.getName() + " is up to date");
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(marker);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unexpected error", e);
+        }
 
         boolean downloaded = false;
         if (!new File(jdkExtractDirectory, getFilename(jdk)).exists()) {
@@ -79,7 +128,6 @@ public class JdkHelper {
 
         verifyJdk(jdkExtractDirectory, jdk);
 
-        File jdkDir = new File(jdkExtractDirectory, getDirname(jdk));
         if (jdkDir.exists()) {
             if (downloaded) {
                 try {
@@ -92,11 +140,41 @@ public class JdkHelper {
         } else {
             extractJdk(jdkExtractDirectory, jdk);
         }
+
+        writeMarker(marker, jdk);
     }
 
     private void downloadJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
         log.info("Downloading " + jdk.getUrl());
 
+        if (jdk.getUrl().startsWith("file:")) {
+            copyJdk(jdkExtractDirectory, jdk);
+            return;
+        }
+
+        synchronized (SESSION_LOCK) {
+            fetchJdk(jdkExtractDirectory, jdk);
+        }
+    }
+
+    private void copyJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
+        Path target = jdkExtractDirectory.toPath().resolve(getFilename(jdk));
+
+        try {
+            Files.createDirectories(jdkExtractDirectory.toPath());
+            Path tmp = Files.createTempFile(jdkExtractDirectory.toPath(), getFilename(jdk), ".tmp");
+            Files.copy(Paths.get(URI.create(jdk.getUrl())), tmp, REPLACE_EXISTING);
+            try {
+                Files.move(tmp, target, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, REPLACE_EXISTING);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new MojoExecutionException("Unexpected error when downloading " + jdk.getUrl(), e);
+        }
+    }
+
+    private void fetchJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
         Boolean interactiveMode = session.getSettings().getInteractiveMode();
         session.getSettings().setInteractiveMode(false);
 
@@ -125,6 +203,42 @@ public class JdkHelper {
         }
     }
 
+    private boolean isUpToDate(Path marker, File jdkDir, Jdk jdk) {
+        if (!Files.exists(marker) || !jdkDir.isDirectory()) return false;
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(marker)) {
+            properties.load(in);
+        } catch (IOException e) {
+            return false;
+        }
+
+        return getFilename(jdk).equals(properties.getProperty(KEY_FILENAME)) &&
+            getDirname(jdk).equals(properties.getProperty(KEY_DIRNAME)) &&
+            jdk.getChecksum().equalsIgnoreCase(properties.getProperty(KEY_CHECKSUM, ""));
+    }
+
+    private void writeMarker(Path marker, Jdk jdk) throws MojoExecutionException {
+        Properties properties = new Properties();
+        properties.setProperty(KEY_FILENAME, getFilename(jdk));
+        properties.setProperty(KEY_DIRNAME, getDirname(jdk));
+        properties.setProperty(KEY_CHECKSUM, jdk.getChecksum().toLowerCase(Locale.ENGLISH));
+
+        try {
+            Path tmp = Files.createTempFile(marker.getParent(), MARKER, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            try {
+                Files.move(tmp, marker, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, marker, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unexpected error when writing " + marker, e);
+        }
+    }
+
     private void verifyJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
         String algo = Algorithm.SHA_256.formatted();
         String checksum = jdk.getChecksum();
@@ -139,7 +253,7 @@ public class JdkHelper {
         try {
             // calculate checksum
             Path input = new File(jdkExtractDirectory, filename).toPath();
-            String calculatedChecksum = ChecksumUtils.checksum(Algorithm.of(algo), Files.readAllBytes(input));
+            String calculatedChecksum = ChecksumUtils.checksum(Algorithm.of(algo), input);
 
             // verify checksum
             log.info("Verifying " + filename);
@@ -36,6 +36,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -67,6 +68,24 @@ public class ListDiscoMojo extends AbstractMojo {
     @Parameter(property = "disco.setup.read.timeout")
     private int readTimeout;
 
+    /**
+     * Seconds a cached Disco response is used without revalidation, a negative value disables the cache.
+     */
+    @Parameter(property = "disco.cache.ttl", defaultValue = "3600")
+    private long cacheTtl;
+
+    /**
+     * Use cached Disco responses only.
+     */
+    @Parameter(property = "disco.offline", defaultValue = "${session.offline}")
+    private boolean offline;
+
+    /**
+     * Number of concurrent Disco queries.
+     */
+    @Parameter(property = "disco.parallelism", defaultValue = "1")
+    private int parallelism;
+
     /**
      * Skip execution.
      */
@@ -86,14 +105,27 @@ public class ListDiscoMojo extends AbstractMojo {
 
         Disco disco = initializeDisco();
 
+        List<org.jreleaser.sdk.disco.api.Pkg> queries = new ArrayList<>();
         for (Pkg pkg : pkgs) {
-            printPkg(pkg, disco);
+            queries.add(pkg.asDiscoPkg());
+        }
+
+        List<List<org.jreleaser.sdk.disco.api.Pkg>> packages;
+        try {
+            packages = disco.packages(queries, parallelism);
+        } catch (RestAPIException e) {
+            getLog().error(e);
+            throw new MojoExecutionException("Could not resolve " + pkgs, e);
+        }
+
+        for (int i = 0; i < pkgs.size(); i++) {
+            printPkg(pkgs.get(i), packages.get(i), disco);
         }
     }
 
     private Disco initializeDisco() throws MojoExecutionException {
         try {
-            return new Disco(new JReleaserLoggerAdapter(getLog()), connectTimeout, readTimeout);
+            return new Disco(new JReleaserLoggerAdapter(getLog()), connectTimeout, readTimeout, cacheTtl, offline);
         } catch (IOException e) {
             throw new MojoExecutionException("Could not initialize Disco client", e);
         }
@@ -118,32 +150,24 @@ public class ListDiscoMojo extends AbstractMojo {
         }
     }
 
-    private void printPkg(Pkg pkg, Disco disco) throws MojoExecutionException {
-        try {
-            List<org.jreleaser.sdk.disco.api.Pkg> packages = disco.packages(pkg.asDiscoPkg());
-
-            if (packages.isEmpty()) return;
-
-            getLog().info("== Pkg " + pkg.getName() + " ==");
-            getLog().info("version:       " + pkg.getVersion());
-            getLog().info("archiveType:   " + pkg.getArchiveType());
-            getLog().info("platform:      " + pkg.getPlatform());
-            getLog().info("distribution:  " + pkg.getDistribution());
-            getLog().info("javafxBundled: " + pkg.isJavafxBundled());
-            getLog().info("package(s):    " + packages.size());
-
-            for (org.jreleaser.sdk.disco.api.Pkg dpkg : packages) {
-                if (!dpkg.isDirectlyDownloadable()) {
-                    disco.getLogger().warn(RB.$("disco.package.not.downloadable", dpkg.getFilename()));
-                    continue;
-                }
-
-                getLog().info("filename:      " + dpkg.getFilename());
+    private void printPkg(Pkg pkg, List<org.jreleaser.sdk.disco.api.Pkg> packages, Disco disco) {
+        if (packages.isEmpty()) return;
+
+        getLog().info("== Pkg " + pkg.getName() + " ==");
+        getLog().info("version:       " + pkg.getVersion());
+        getLog().info("archiveType:   " + pkg.getArchiveType());
+        getLog().info("platform:      " + pkg.getPlatform());
+        getLog().info("distribution:  " + pkg.getDistribution());
+        getLog().info("javafxBundled: " + pkg.isJavafxBundled());
+        getLog().info("package(s):    " + packages.size());
+
+        for (org.jreleaser.sdk.disco.api.Pkg dpkg : packages) {
+            if (!dpkg.isDirectlyDownloadable()) {
+                disco.getLogger().warn(RB.$("disco.package.not.downloadable", dpkg.getFilename()));
+                continue;
             }
 
-        } catch (RestAPIException e) {
-            getLog().error(e);
-            throw new MojoExecutionException("Could not resolve " + pkg, e);
+            getLog().info("filename:      " + dpkg.getFilename());
         }
     }
 }
@@ -37,6 +37,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -74,6 +75,24 @@ public class SetupDiscoMojo extends AbstractMojo {
     @Parameter(property = "disco.setup.read.timeout")
     private int readTimeout = 60;
 
+    /**
+     * Seconds a cached Disco response is used without revalidation, a negative value disables the cache.
+     */
+    @Parameter(property = "disco.cache.ttl", defaultValue = "3600")
+    private long cacheTtl;
+
+    /**
+     * Use cached Disco responses only.
+     */
+    @Parameter(property = "disco.offline", defaultValue = "${session.offline}")
+    private boolean offline;
+
+    /**
+     * Number of concurrent Disco queries.
+     */
+    @Parameter(property = "disco.parallelism", defaultValue = "1")
+    private int parallelism;
+
     /**
      * Skip execution.
      */
@@ -96,17 +115,33 @@ public class SetupDiscoMojo extends AbstractMojo {
         JdkHelper jdkHelper = new JdkHelper(project, getLog(), outputDirectory,
             session, pluginManager, archiverManager);
 
-        for (Pkg pkg : pkgs) {
-            Jdk jdk = resolvePkg(pkg, disco);
+        List<List<org.jreleaser.sdk.disco.api.Pkg>> packages = resolvePackages(disco);
+        for (int i = 0; i < pkgs.size(); i++) {
+            Jdk jdk = resolvePkg(pkgs.get(i), packages.get(i), disco);
             if (null != jdk) {
                 jdkHelper.setupJdk(jdk);
             }
         }
     }
 
+    private List<List<org.jreleaser.sdk.disco.api.Pkg>> resolvePackages(Disco disco) throws MojoExecutionException {
+        List<org.jreleaser.sdk.disco.api.Pkg> queries = new ArrayList<>();
+        for (Pkg pkg : pkgs) {
+            disco.getLogger().info("Fetching " + pkg);
+            queries.add(pkg.asDiscoPkg());
+        }
+
+        try {
+            return disco.packages(queries, parallelism);
+        } catch (RestAPIException e) {
+            getLog().error(e);
+            throw new MojoExecutionException("Could not resolve " + pkgs, e);
+        }
+    }
+
     private Disco initializeDisco() throws MojoExecutionException {
         try {
-            return new Disco(new JReleaserLoggerAdapter(getLog()), connectTimeout, readTimeout);
+            return new Disco(new JReleaserLoggerAdapter(getLog()), connectTimeout, readTimeout, cacheTtl, offline);
         } catch (IOException e) {
             throw new MojoExecutionException("Could not initialize Disco client", e);
         }
@@ -131,11 +166,8 @@ public class SetupDiscoMojo extends AbstractMojo {
         }
     }
 
-    private Jdk resolvePkg(Pkg pkg, Disco disco) throws MojoExecutionException {
+    private Jdk resolvePkg(Pkg pkg, List<org.jreleaser.sdk.disco.api.Pkg> packages, Disco disco) throws MojoExecutionException {
         try {
-            disco.getLogger().info("Fetching " + pkg);
-            List<org.jreleaser.sdk.disco.api.Pkg> packages = disco.packages(pkg.asDiscoPkg());
-
             if (packages.isEmpty()) return null;
 
             if (packages.size() > 1) {
@@ -25,9 +25,13 @@ import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.codehaus.plexus.archiver.manager.ArchiverManager;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.jreleaser.util.ConcurrencyUtils.task;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -59,6 +63,12 @@ public class SetupJdksMojo extends AbstractJdksMojo {
     @Parameter(property = "jdks.setup.skip")
     private boolean skip;
 
+    /**
+     * Number of JDKs to set up concurrently.
+     */
+    @Parameter(property = "jdks.setup.parallelism", defaultValue = "1")
+    private int parallelism;
+
     @Component
     private ArchiverManager archiverManager;
 
@@ -80,10 +90,29 @@ public class SetupJdksMojo extends AbstractJdksMojo {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Jdk " + jdkName + " was not found"));
             jdkHelper.setupJdk(jdk);
+        } else if (parallelism > 1 && jdks.size() > 1) {
+            setupJdks(jdkHelper);
         } else {
             for (Jdk jdk : jdks) {
                 jdkHelper.setupJdk(jdk);
             }
         }
     }
+
+    private void setupJdks(JdkHelper jdkHelper) throws MojoExecutionException {
+        // JDKs sharing a name share an output directory, group them to keep them serial
+        List<ConcurrencyUtils.GroupedTask> tasks = new ArrayList<>();
+        for (Jdk jdk : jdks) {
+            tasks.add(task(jdk.getName(), () -> jdkHelper.setupJdk(jdk)));
+        }
+
+        List<Throwable> failures = ConcurrencyUtils.executeGrouped("jdks", parallelism, tasks);
+        for (Throwable failure : failures) {
+            if (failure instanceof MojoExecutionException) {
+                throw (MojoExecutionException) failure;
+            } else if (failure != null) {
+                throw new MojoExecutionException("Unexpected error", failure);
+            }
+        }
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.jdks.maven.plugin;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.codehaus.plexus.archiver.Archiver;
+import org.codehaus.plexus.archiver.UnArchiver;
+import org.codehaus.plexus.archiver.manager.ArchiverManager;
+import org.codehaus.plexus.archiver.zip.ZipUnArchiver;
+import org.codehaus.plexus.components.io.resources.PlexusIoResourceCollection;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+class JdkHelperTest {
+    @TempDir
+    Path tmp;
+
+    @Test
+    void setsUpJdkFromFileUrl() throws Exception {
+        // given:
+        Jdk jdk = jdk("zulu", createJdkArchive("zulu-17"));
+        CountingArchiverManager archiverManager = new CountingArchiverManager(null);
+        JdkHelper helper = helper(archiverManager);
+
+        // when:
+        helper.setupJdk(jdk);
+        helper.setupJdk(jdk);
+
+        // then:
+        Path jdkDir = tmp.resolve("jdks/zulu/zulu-17");
+        assertTrue(Files.exists(jdkDir.resolve("bin/java")));
+        assertTrue(Files.exists(tmp.resolve("jdks/zulu/.jreleaser-jdk.properties")));
+        assertEquals(1, archiverManager.extractions.get());
+    }
+
+    @Test
+    void rejectsInvalidChecksum() throws Exception {
+        // given:
+        Jdk jdk = jdk("zulu", createJdkArchive("zulu-17"));
+        jdk.setChecksum("0000");
+        JdkHelper helper = helper(new CountingArchiverManager(null));
+
+        // expect:
+        assertThrows(MojoExecutionException.class, () -> helper.setupJdk(jdk));
+        assertFalse(Files.exists(tmp.resolve("jdks/zulu/.jreleaser-jdk.properties")));
+    }
+
+    @Test
+    void setsUpDistinctJdksConcurrently() throws Exception {
+        // given:
+        int count = 3;
+        List<Jdk> jdks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jdks.add(jdk("jdk" + i, createJdkArchive("jdk-" + i)));
+        }
+        // every extraction waits for all others to start, serialized setups would never get there
+        CountDownLatch latch = new CountDownLatch(count);
+        CountingArchiverManager archiverManager = new CountingArchiverManager(latch);
+        JdkHelper helper = helper(archiverManager);
+
+        // when:
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> setup(helper, jdks));
+
+        // then:
+        assertEquals(count, archiverManager.extractions.get());
+        for (int i = 0; i < count; i++) {
+            assertTrue(Files.exists(tmp.resolve("jdks/jdk" + i + "/jdk-" + i + "/bin/java")));
+        }
+    }
+
+    @Test
+    void setsUpTheSameJdkOnce() throws Exception {
+        // given:
+        Jdk jdk = jdk("zulu", createJdkArchive("zulu-17"));
+        List<Jdk> jdks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            jdks.add(jdk);
+        }
+        CountingArchiverManager archiverManager = new CountingArchiverManager(null);
+        JdkHelper helper = helper(archiverManager);
+
+        // when:
+        setup(helper, jdks);
+
+        // then:
+        assertEquals(1, archiverManager.extractions.get());
+        assertTrue(Files.exists(tmp.resolve("jdks/zulu/zulu-17/bin/java")));
+    }
+
+    private void setup(JdkHelper helper, List<Jdk> jdks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(jdks.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Jdk jdk : jdks) {
+                futures.add(executor.submit(() -> {
+                    helper.setupJdk(jdk);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JdkHelper helper(ArchiverManager archiverManager) {
+        // no MavenSession, file: URLs must not require one
+        return new JdkHelper(null, new SystemStreamLog(), tmp.resolve("jdks").toFile(),
+            null, null, archiverManager);
+    }
+
+    private Jdk jdk(String name, Path archive) throws IOException {
+        Jdk jdk = new Jdk();
+        jdk.setName(name);
+        jdk.setUrl(archive.toUri().toString());
+        jdk.setChecksum(ChecksumUtils.checksum(Algorithm.SHA_256, archive));
+        return jdk;
+    }
+
+    private Path createJdkArchive(String dirname) throws IOException {
+        Path archive = tmp.resolve("archives").resolve(dirname + ".zip");
+        Files.createDirectories(archive.getParent());
+        try (OutputStream out = Files.newOutputStream(archive);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry(dirname + "/bin/java"));
+            zip.write(dirname.getBytes(UTF_8));
+            zip.closeEntry();
+        }
+        return archive;
+    }
+
+    private static class CountingArchiverManager implements ArchiverManager {
+        private final AtomicInteger extractions = new AtomicInteger();
+        private final CountDownLatch latch;
+
+        private CountingArchiverManager(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public UnArchiver getUnArchiver(File file) {
+            extractions.incrementAndGet();
+            if (null != latch) {
+                latch.countDown();
+                try {
+                    latch.await(20, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new ZipUnArchiver();
+        }
+
+        @Override
+        public UnArchiver getUnArchiver(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Archiver getArchiver(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Archiver getArchiver(File file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PlexusIoResourceCollection getResourceCollection(File file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PlexusIoResourceCollection getResourceCollection(String name) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
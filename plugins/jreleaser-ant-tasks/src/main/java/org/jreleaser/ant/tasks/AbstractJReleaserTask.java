@@ -27,6 +27,7 @@ import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.api.JReleaserContext.Mode;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.ServiceProviders;
 import org.jreleaser.util.StringUtils;
 
 import java.io.File;
@@ -43,7 +44,6 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.ServiceLoader;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
@@ -111,7 +111,7 @@ abstract class AbstractJReleaserTask extends Task {
         if (null != configFile) {
             actualConfigFile = configFile.toPath();
         } else {
-            ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
+            List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class,
                 JReleaserConfigParser.class.getClassLoader());
 
             for (JReleaserConfigParser parser : parsers) {
@@ -189,7 +189,7 @@ abstract class AbstractJReleaserTask extends Task {
     private Set<String> getSupportedConfigFormats() {
         Set<String> extensions = new LinkedHashSet<>();
 
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class,
             JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
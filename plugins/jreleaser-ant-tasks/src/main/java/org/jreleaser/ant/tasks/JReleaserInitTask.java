@@ -26,6 +26,7 @@ import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.templates.TemplateResource;
 import org.jreleaser.templates.TemplateUtils;
+import org.jreleaser.util.ServiceProviders;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -35,7 +36,7 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LinkedHashSet;
-import java.util.ServiceLoader;
+import java.util.List;
 import java.util.Set;
 
 import static java.nio.file.StandardOpenOption.CREATE;
@@ -119,7 +120,7 @@ public class JReleaserInitTask extends Task {
     private Set<String> getSupportedConfigFormats() {
         Set<String> extensions = new LinkedHashSet<>();
 
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class,
             JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
@@ -51,6 +51,10 @@ interface DockerConfiguration extends Activatable, ExtraProperties {
 
     ListProperty<String> getBuildArgs()
 
+    ListProperty<String> getCacheFrom()
+
+    ListProperty<String> getCacheTo()
+
     ListProperty<String> getPreCommands()
 
     ListProperty<String> getPostCommands()
@@ -66,6 +66,7 @@ import org.jreleaser.model.internal.JReleaserModel
 import org.kordamp.gradle.util.ConfigureUtil
 
 import javax.inject.Inject
+import java.nio.file.Path
 
 import static org.jreleaser.util.StringUtils.isBlank
 import static org.jreleaser.util.StringUtils.isNotBlank
@@ -312,9 +313,9 @@ class JReleaserExtensionImpl implements JReleaserExtension {
     }
 
     @CompileDynamic
-    JReleaserModel toModel(org.gradle.api.Project gradleProject, JReleaserLogger logger) {
+    JReleaserModel toModel(org.gradle.api.Project gradleProject, JReleaserLogger logger, Path outputDirectory) {
         if (configFile.present) {
-            JReleaserModel jreleaser = ContextCreator.resolveModel(logger, configFile.asFile.get().toPath())
+            JReleaserModel jreleaser = ContextCreator.resolveModel(logger, configFile.asFile.get().toPath(), outputDirectory)
             if (isBlank(jreleaser.project.name)) jreleaser.project.name = project.name.orNull
             if (isBlank(jreleaser.project.version)) jreleaser.project.version = project.version.orNull
             if (isBlank(jreleaser.project.description)) jreleaser.project.description = project.description.orNull
@@ -69,7 +69,7 @@ class JReleaserProjectConfigurer {
 
         JReleaserLogger logger = createLogger(project, outputDirectory)
 
-        JReleaserModel model = extension.toModel(project, logger)
+        JReleaserModel model = extension.toModel(project, logger, outputDirectory.get().asFile.toPath())
         configureModel(project, model)
 
         project.tasks.register('jreleaserConfig', JReleaserConfigTask,
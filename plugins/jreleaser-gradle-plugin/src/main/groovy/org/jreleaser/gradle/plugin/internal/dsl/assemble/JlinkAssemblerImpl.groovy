@@ -28,7 +28,9 @@ import org.gradle.api.provider.Property
 import org.gradle.api.provider.SetProperty
 import org.gradle.api.tasks.Internal
 import org.jreleaser.gradle.plugin.dsl.assemble.JlinkAssembler
+import org.jreleaser.gradle.plugin.dsl.common.ArchiveOptions
 import org.jreleaser.gradle.plugin.dsl.common.Artifact
+import org.jreleaser.gradle.plugin.internal.dsl.common.ArchiveOptionsImpl
 import org.jreleaser.gradle.plugin.internal.dsl.common.ArtifactImpl
 import org.jreleaser.gradle.plugin.internal.dsl.common.JavaImpl
 import org.jreleaser.gradle.plugin.internal.dsl.platform.PlatformImpl
@@ -58,6 +60,7 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
 
     private final JdepsImpl jdeps
     private final ArtifactImpl jdk
+    private final ArchiveOptionsImpl options
     final NamedDomainObjectContainer<ArtifactImpl> targetJdks
 
     @Inject
@@ -75,6 +78,7 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
         jdeps = objects.newInstance(JdepsImpl, objects)
         jdk = objects.newInstance(ArtifactImpl, objects)
         jdk.setName('jdk')
+        options = objects.newInstance(ArchiveOptionsImpl, objects)
 
         targetJdks = objects.domainObjectContainer(ArtifactImpl, new NamedDomainObjectFactory<ArtifactImpl>() {
             @Override
@@ -99,7 +103,8 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
             moduleNames.present ||
             additionalModuleNames.present ||
             !targetJdks.isEmpty() ||
-            platform.isSet()
+            platform.isSet() ||
+            options.isSet()
     }
 
     @Override
@@ -124,6 +129,11 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
         action.execute(targetJdks.maybeCreate("targetJdk-${targetJdks.size()}".toString()))
     }
 
+    @Override
+    void options(Action<? super ArchiveOptions> action) {
+        action.execute(options)
+    }
+
     @Override
     void setActive(String str) {
         if (isNotBlank(str)) {
@@ -146,6 +156,11 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
         ConfigureUtil.configure(action, targetJdks.maybeCreate("targetJdk-${targetJdks.size()}".toString()))
     }
 
+    @Override
+    void options(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = ArchiveOptions) Closure<Void> action) {
+        ConfigureUtil.configure(action, options)
+    }
+
     org.jreleaser.model.internal.assemble.JlinkAssembler toModel() {
         org.jreleaser.model.internal.assemble.JlinkAssembler jlink = new org.jreleaser.model.internal.assemble.JlinkAssembler()
         jlink.name = name
@@ -153,6 +168,7 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
         jlink.args = (List<String>) args.getOrElse([])
         if (jdeps.isSet()) jlink.jdeps = jdeps.toModel()
         if (jdk.isSet()) jlink.jdk = jdk.toModel()
+        if (options.isSet()) jlink.options = options.toModel()
         jlink.java = java.toModel()
         jlink.platform = platform.toModel()
         if (imageName.present) jlink.imageName = imageName.get()
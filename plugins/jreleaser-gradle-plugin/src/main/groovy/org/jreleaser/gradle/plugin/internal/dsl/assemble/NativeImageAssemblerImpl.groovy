@@ -27,7 +27,9 @@ import org.gradle.api.provider.ListProperty
 import org.gradle.api.provider.Property
 import org.gradle.api.tasks.Internal
 import org.jreleaser.gradle.plugin.dsl.assemble.NativeImageAssembler
+import org.jreleaser.gradle.plugin.dsl.common.ArchiveOptions
 import org.jreleaser.gradle.plugin.dsl.common.Artifact
+import org.jreleaser.gradle.plugin.internal.dsl.common.ArchiveOptionsImpl
 import org.jreleaser.gradle.plugin.internal.dsl.common.ArtifactImpl
 import org.jreleaser.gradle.plugin.internal.dsl.common.JavaImpl
 import org.jreleaser.gradle.plugin.internal.dsl.platform.PlatformImpl
@@ -59,6 +61,7 @@ class NativeImageAssemblerImpl extends AbstractJavaAssembler implements NativeIm
     private final LinuxImpl linux
     private final WindowsImpl windows
     private final OsxImpl osx
+    private final ArchiveOptionsImpl options
     final NamedDomainObjectContainer<ArtifactImpl> graalJdks
 
     @Inject
@@ -77,6 +80,7 @@ class NativeImageAssemblerImpl extends AbstractJavaAssembler implements NativeIm
         linux = objects.newInstance(LinuxImpl, objects)
         windows = objects.newInstance(WindowsImpl, objects)
         osx = objects.newInstance(OsxImpl, objects)
+        options = objects.newInstance(ArchiveOptionsImpl, objects)
 
         graalJdks = objects.domainObjectContainer(ArtifactImpl, new NamedDomainObjectFactory<ArtifactImpl>() {
             @Override
@@ -107,6 +111,7 @@ class NativeImageAssemblerImpl extends AbstractJavaAssembler implements NativeIm
             linux.isSet() ||
             windows.isSet() ||
             osx.isSet() ||
+            options.isSet() ||
             !graalJdks.isEmpty()
     }
 
@@ -147,6 +152,11 @@ class NativeImageAssemblerImpl extends AbstractJavaAssembler implements NativeIm
         action.execute(graalJdks.maybeCreate("graalJdk-${graalJdks.size()}".toString()))
     }
 
+    @Override
+    void options(Action<? super ArchiveOptions> action) {
+        action.execute(options)
+    }
+
     @Override
     void graal(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Artifact) Closure<Void> action) {
         ConfigureUtil.configure(action, graal)
@@ -177,6 +187,11 @@ class NativeImageAssemblerImpl extends AbstractJavaAssembler implements NativeIm
         ConfigureUtil.configure(action, graalJdks.maybeCreate("graalJdk-${graalJdks.size()}".toString()))
     }
 
+    @Override
+    void options(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = ArchiveOptions) Closure<Void> action) {
+        ConfigureUtil.configure(action, options)
+    }
+
     @Override
     void setActive(String str) {
         if (isNotBlank(str)) {
@@ -199,6 +214,7 @@ class NativeImageAssemblerImpl extends AbstractJavaAssembler implements NativeIm
         if (linux.isSet()) nativeImage.linux = linux.toModel()
         if (windows.isSet()) nativeImage.windows = windows.toModel()
         if (osx.isSet()) nativeImage.osx = osx.toModel()
+        if (options.isSet()) nativeImage.options = options.toModel()
         for (ArtifactImpl artifact : graalJdks) {
             nativeImage.addGraalJdk(artifact.toModel())
         }
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.gradle.plugin.internal.dsl.common
+
+import groovy.transform.CompileStatic
+import org.gradle.api.internal.provider.Providers
+import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Internal
+import org.jreleaser.gradle.plugin.dsl.common.ArchiveOptions
+
+import javax.inject.Inject
+
+/**
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+@CompileStatic
+class ArchiveOptionsImpl implements ArchiveOptions {
+    final Property<Integer> compressionLevel
+    final Property<Integer> compressionThreads
+    final Property<Boolean> reproducible
+
+    @Inject
+    ArchiveOptionsImpl(ObjectFactory objects) {
+        compressionLevel = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        compressionThreads = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        reproducible = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+    }
+
+    @Internal
+    boolean isSet() {
+        compressionLevel.present ||
+            compressionThreads.present ||
+            reproducible.present
+    }
+
+    org.jreleaser.model.internal.common.ArchiveOptions toModel() {
+        org.jreleaser.model.internal.common.ArchiveOptions options = new org.jreleaser.model.internal.common.ArchiveOptions()
+        if (compressionLevel.present) options.compressionLevel = compressionLevel.get()
+        if (compressionThreads.present) options.compressionThreads = compressionThreads.get()
+        if (reproducible.present) options.reproducible = reproducible.get()
+        options
+    }
+}
@@ -52,6 +52,8 @@ abstract class AbstractDockerConfiguration implements DockerConfiguration {
     final Property<Boolean> useLocalArtifact
     final SetProperty<String> imageNames
     final ListProperty<String> buildArgs
+    final ListProperty<String> cacheFrom
+    final ListProperty<String> cacheTo
     final ListProperty<String> preCommands
     final ListProperty<String> postCommands
     final MapProperty<String, String> labels
@@ -68,6 +70,8 @@ abstract class AbstractDockerConfiguration implements DockerConfiguration {
         useLocalArtifact = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         imageNames = objects.setProperty(String).convention(Providers.<Set<String>> notDefined())
         buildArgs = objects.listProperty(String).convention(Providers.<List<String>> notDefined())
+        cacheFrom = objects.listProperty(String).convention(Providers.<List<String>> notDefined())
+        cacheTo = objects.listProperty(String).convention(Providers.<List<String>> notDefined())
         preCommands = objects.listProperty(String).convention(Providers.<List<String>> notDefined())
         postCommands = objects.listProperty(String).convention(Providers.<List<String>> notDefined())
         labels = objects.mapProperty(String, String).convention(Providers.notDefined())
@@ -142,6 +146,8 @@ abstract class AbstractDockerConfiguration implements DockerConfiguration {
             useLocalArtifact.present ||
             imageNames.present ||
             buildArgs.present ||
+            cacheFrom.present ||
+            cacheTo.present ||
             preCommands.present ||
             postCommands.present ||
             labels.present ||
@@ -166,6 +172,8 @@ abstract class AbstractDockerConfiguration implements DockerConfiguration {
         if (useLocalArtifact.present) docker.useLocalArtifact = useLocalArtifact.get()
         if (imageNames.present) docker.imageNames.addAll(imageNames.get())
         if (buildArgs.present) docker.buildArgs.addAll(buildArgs.get())
+        if (cacheFrom.present) docker.cacheFrom.addAll(cacheFrom.get())
+        if (cacheTo.present) docker.cacheTo.addAll(cacheTo.get())
         if (preCommands.present) docker.preCommands.addAll(preCommands.get())
         if (postCommands.present) docker.postCommands.addAll(postCommands.get())
         if (labels.present) docker.labels.putAll(labels.get())
@@ -114,7 +114,7 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
     }
 
     protected JReleaserModel readModel(JReleaserLogger logger) {
-        JReleaserModel jreleaserModel = (JReleaserModel) ContextCreator.resolveModel(logger, configFile.toPath());
+        JReleaserModel jreleaserModel = (JReleaserModel) ContextCreator.resolveModel(logger, configFile.toPath(), outputDirectory.toPath());
         return JReleaserModelConfigurer.configure(jreleaserModel, project, session);
     }
 
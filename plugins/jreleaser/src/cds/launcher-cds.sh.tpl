@@ -0,0 +1,21 @@
+# Use an AppCDS archive on Java 13+. Archives are kept per JReleaser version and JVM
+# under $JRELEASER_USER_HOME/caches/cds. Set JRELEASER_CDS=false to disable.
+if [ "$JRELEASER_CDS" != "false" ] ; then
+    CDS_JAVA=`command -v "$JAVACMD"`
+    CDS_JAVA=`readlink -f "$CDS_JAVA" 2>/dev/null || echo "$CDS_JAVA"`
+    CDS_JAVA_VERSION=`sed -n 's/^JAVA_VERSION="\([0-9]*\).*/\1/p' "\`dirname "$CDS_JAVA"\`/../release" 2>/dev/null`
+    if [ -n "$CDS_JAVA_VERSION" ] && [ "$CDS_JAVA_VERSION" -ge 13 ] 2>/dev/null ; then
+        CDS_DIR="${JRELEASER_USER_HOME:-$HOME/.jreleaser}/caches/cds"
+        CDS_ARCHIVE="$CDS_DIR/jreleaser-@version@-`echo "$CDS_JAVA" | cksum | cut -d' ' -f1`.jsa"
+        CDS_LOG="-Xlog:cds=off -Xlog:cds+dynamic=off"
+        mkdir -p "$CDS_DIR" 2>/dev/null
+        if [ "$CDS_JAVA_VERSION" -ge 19 ] ; then
+            JAVA_OPTS="-XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=\"$CDS_ARCHIVE\" $CDS_LOG $JAVA_OPTS"
+        elif [ -f "$CDS_ARCHIVE" ] ; then
+            JAVA_OPTS="-XX:SharedArchiveFile=\"$CDS_ARCHIVE\" -Xshare:auto $CDS_LOG $JAVA_OPTS"
+        else
+            JAVA_OPTS="-XX:ArchiveClassesAtExit=\"$CDS_ARCHIVE\" $CDS_LOG $JAVA_OPTS"
+        fi
+    fi
+fi
+
@@ -25,6 +25,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.JReleaserModel;
 import org.jreleaser.model.internal.environment.Environment;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.ServiceProviders;
 import org.jreleaser.util.StringUtils;
 import picocli.CommandLine;
 
@@ -36,7 +37,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.ServiceLoader;
 import java.util.Set;
 
 import static org.jreleaser.util.FileUtils.resolveOutputDirectory;
@@ -107,7 +107,7 @@ public abstract class AbstractModelCommand extends AbstractLoggingCommand {
     }
 
     private Optional<Path> resolveConfigFileAt(Path directory) {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class,
             JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
@@ -134,7 +134,7 @@ public abstract class AbstractModelCommand extends AbstractLoggingCommand {
     protected abstract void doExecute(JReleaserContext context);
 
     protected JReleaserContext createContext() {
-        JReleaserModel model = ContextCreator.resolveModel(logger, actualConfigFile);
+        JReleaserModel model = ContextCreator.resolveModel(logger, actualConfigFile, getOutputDirectory());
         Environment.PropertiesSource propertiesSource = new Environment.PropertiesPropertiesSource(collectProperties());
         model.getEnvironment().setPropertiesSource(propertiesSource);
 
@@ -175,7 +175,7 @@ public abstract class AbstractModelCommand extends AbstractLoggingCommand {
     private Set<String> getSupportedConfigFormats() {
         Set<String> extensions = new LinkedHashSet<>();
 
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class,
             JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
@@ -22,6 +22,7 @@ import org.jreleaser.config.JReleaserConfigParser;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.templates.TemplateResource;
 import org.jreleaser.templates.TemplateUtils;
+import org.jreleaser.util.ServiceProviders;
 import picocli.CommandLine;
 
 import java.io.IOException;
@@ -31,7 +32,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.LinkedHashSet;
-import java.util.ServiceLoader;
+import java.util.List;
 import java.util.Set;
 
 import static java.nio.file.StandardOpenOption.CREATE;
@@ -105,7 +106,7 @@ public class Init extends AbstractLoggingCommand {
     private Set<String> getSupportedConfigFormats() {
         Set<String> extensions = new LinkedHashSet<>();
 
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
+        List<JReleaserConfigParser> parsers = ServiceProviders.providers(JReleaserConfigParser.class,
             JReleaserConfigParser.class.getClassLoader());
 
         for (JReleaserConfigParser parser : parsers) {
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.cli;
 
+import org.jreleaser.cli.internal.DaemonClient;
 import picocli.AutoComplete;
 import picocli.CommandLine;
 
@@ -45,6 +46,13 @@ public class Main extends BaseCommand implements Runnable {
     }
 
     public static void main(String[] args) {
+        if (DaemonClient.isEnabled()) {
+            Integer exitCode = DaemonClient.execute(args);
+            if (null != exitCode) {
+                System.exit(exitCode);
+            }
+        }
+
         System.exit(run(args));
     }
 
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli.internal;
+
+import org.slf4j.helpers.MessageFormatter;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.jreleaser.cli.internal.JReleaserDaemon.FRAME_ERR;
+import static org.jreleaser.cli.internal.JReleaserDaemon.FRAME_EXIT;
+import static org.jreleaser.cli.internal.JReleaserDaemon.FRAME_OUT;
+import static org.jreleaser.cli.internal.JReleaserDaemon.KEY_PORT;
+import static org.jreleaser.cli.internal.JReleaserDaemon.KEY_TOKEN;
+import static org.jreleaser.cli.internal.JReleaserDaemon.STATE_FILE;
+import static org.jreleaser.cli.internal.JReleaserDaemon.readState;
+
+/**
+ * Thin client that forwards CLI arguments to a {@link JReleaserDaemon}, starting one if needed.
+ * Enabled by setting {@code JRELEASER_DAEMON} to {@code true}.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class DaemonClient {
+    private static final long STARTUP_TIMEOUT = 20_000L;
+    private static final long STARTUP_POLL = 50L;
+
+    private static final ResourceBundle BUNDLE = ResourceBundle.getBundle("org.jreleaser.cli.Messages");
+
+    private DaemonClient() {
+        // noop
+    }
+
+    public static boolean isEnabled() {
+        return JReleaserDaemon.isEnabled();
+    }
+
+    /**
+     * Executes the given arguments in a daemon.
+     *
+     * @return the exit code, or {@code null} when no daemon could be reached and the command
+     * should run in the current process instead.
+     */
+    public static Integer execute(String[] args) {
+        try {
+            Path workingDir = Paths.get("").toAbsolutePath();
+            Path stateDir = JReleaserDaemon.resolveStateDir(workingDir);
+
+            Socket socket = connect(stateDir);
+            if (null == socket) {
+                socket = start(stateDir, workingDir);
+            }
+            if (null == socket) {
+                System.err.println($("daemon.ERROR_unavailable"));
+                return null;
+            }
+
+            try (Socket s = socket) {
+                return send(s, readState(stateDir), args);
+            }
+        } catch (IOException e) {
+            // the request may have been partially executed, do not run it again
+            System.err.println($("daemon.ERROR_connection_lost", e.getMessage()));
+            return 1;
+        }
+    }
+
+    private static int send(Socket socket, Properties state, String[] args) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.writeUTF(state.getProperty(KEY_TOKEN));
+        out.writeBoolean(CommandLine.Help.Ansi.AUTO.enabled());
+        out.writeInt(args.length);
+        for (String arg : args) {
+            out.writeUTF(arg);
+        }
+        // the daemon is shared by every step of a CI job, each step has variables of its own
+        Map<String, String> env = System.getenv();
+        out.writeInt(env.size());
+        for (Map.Entry<String, String> e : env.entrySet()) {
+            out.writeUTF(e.getKey());
+            out.writeUTF(e.getValue());
+        }
+        out.flush();
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        byte[] buffer = new byte[8192];
+        while (true) {
+            byte type;
+            try {
+                type = in.readByte();
+            } catch (EOFException e) {
+                throw new IOException($("daemon.ERROR_no_exit_code"), e);
+            }
+
+            if (type == FRAME_EXIT) {
+                System.out.flush();
+                System.err.flush();
+                return in.readInt();
+            }
+
+            int length = in.readInt();
+            if (buffer.length < length) buffer = new byte[length];
+            in.readFully(buffer, 0, length);
+            if (type == FRAME_OUT) {
+                System.out.write(buffer, 0, length);
+                System.out.flush();
+            } else if (type == FRAME_ERR) {
+                System.err.write(buffer, 0, length);
+                System.err.flush();
+            }
+        }
+    }
+
+    private static Socket connect(Path stateDir) {
+        Properties state = readState(stateDir);
+        if (null == state) return null;
+
+        try {
+            return new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(state.getProperty(KEY_PORT)));
+        } catch (IOException | NumberFormatException e) {
+            // stale state, the daemon is gone
+            return null;
+        }
+    }
+
+    private static Socket start(Path stateDir, Path workingDir) throws IOException {
+        Path java = Paths.get(System.getProperty("java.home"), "bin",
+            File.separatorChar == '\\' ? "java.exe" : "java");
+        // native executables cannot spawn a daemon
+        if (!Files.isExecutable(java)) return null;
+
+        Files.createDirectories(stateDir);
+        try (FileChannel channel = FileChannel.open(stateDir.resolve("daemon.lock"), CREATE, WRITE)) {
+            FileLock fileLock = channel.lock();
+            try {
+                // another client may have started a daemon while we waited for the lock
+                Socket socket = connect(stateDir);
+                if (null != socket) return socket;
+
+                Files.deleteIfExists(stateDir.resolve(STATE_FILE));
+
+                List<String> cmd = new ArrayList<>();
+                cmd.add(java.toString());
+                cmd.addAll(resolveJvmArguments(ManagementFactory.getRuntimeMXBean().getInputArguments()));
+                cmd.add("-cp");
+                cmd.add(System.getProperty("java.class.path"));
+                cmd.add(JReleaserDaemon.class.getName());
+                cmd.add(stateDir.toAbsolutePath().toString());
+
+                File log = stateDir.resolve("daemon.log").toFile();
+                new ProcessBuilder(cmd)
+                    .directory(workingDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(log)
+                    .start();
+
+                long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT;
+                while (System.currentTimeMillis() < deadline) {
+                    socket = connect(stateDir);
+                    if (null != socket) return socket;
+                    try {
+                        Thread.sleep(STARTUP_POLL);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                }
+            } finally {
+                fileLock.release();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Debuggers and agents bind ports and files of their own, the daemon must not inherit them.
+     */
+    static List<String> resolveJvmArguments(List<String> arguments) {
+        return arguments.stream()
+            .filter(arg -> !isAgentArgument(arg))
+            .collect(toList());
+    }
+
+    private static boolean isAgentArgument(String arg) {
+        return arg.startsWith("-agentlib:") ||
+            arg.startsWith("-agentpath:") ||
+            arg.startsWith("-javaagent:") ||
+            arg.startsWith("-Xrunjdwp") ||
+            arg.equals("-Xdebug");
+    }
+
+    private static String $(String key, Object... args) {
+        return MessageFormatter.arrayFormat(BUNDLE.getString(key), args).getMessage();
+    }
+}
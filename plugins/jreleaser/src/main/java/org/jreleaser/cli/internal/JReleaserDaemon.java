@@ -0,0 +1,401 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli.internal;
+
+import org.jreleaser.cli.Main;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.Env;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Long lived process that executes CLI commands on behalf of {@link DaemonClient}, keeping loaded
+ * classes, JIT compiled code and provider registries warm between invocations.
+ * <p>
+ * A daemon serves a single working directory, Java installation and set of {@code JRELEASER_*}
+ * variables, listens on the loopback interface only, and requires the random token stored in its
+ * state file (readable by the owner only). Every request carries its client's environment.
+ * Requests are executed one at a time; System properties and the environment are restored after
+ * each one. A command is interrupted when its client disconnects; one that ignores the interrupt is
+ * abandoned after {@code JRELEASER_DAEMON_ABANDON_TIMEOUT} seconds and finishes in the background
+ * while the daemon accepts new requests. The daemon exits after
+ * {@code JRELEASER_DAEMON_IDLE_TIMEOUT} seconds without requests.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class JReleaserDaemon {
+    static final String DAEMON = "daemon";
+    static final String IDLE_TIMEOUT = "daemon.idle.timeout";
+    static final String ABANDON_TIMEOUT = "daemon.abandon.timeout";
+    static final String STATE_FILE = "daemon.properties";
+    static final String KEY_PORT = "port";
+    static final String KEY_TOKEN = "token";
+    static final byte FRAME_OUT = 1;
+    static final byte FRAME_ERR = 2;
+    static final byte FRAME_EXIT = 3;
+
+    private static final long DEFAULT_IDLE_TIMEOUT = 1800L;
+    private static final long DEFAULT_ABANDON_TIMEOUT = 10L;
+    private static final long JOIN_POLL = 100L;
+    private static final String JRELEASER_ENV_PREFIX = "JRELEASER_";
+    private static final String JAVA_HOME = "JAVA_HOME";
+
+    private final Path stateDir;
+    private final long idleTimeout;
+    private final long abandonTimeout;
+    private final CommandRunner runner;
+    private final String token;
+
+    JReleaserDaemon(Path stateDir, long idleTimeout, long abandonTimeout, CommandRunner runner) {
+        this.stateDir = stateDir;
+        this.idleTimeout = idleTimeout;
+        this.abandonTimeout = abandonTimeout;
+        this.runner = runner;
+
+        byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder b = new StringBuilder();
+        for (byte x : bytes) {
+            b.append(String.format("%02x", x));
+        }
+        this.token = b.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        new JReleaserDaemon(Paths.get(args[0]),
+            resolveTimeout(IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT),
+            resolveTimeout(ABANDON_TIMEOUT, DEFAULT_ABANDON_TIMEOUT),
+            Main::run).serve();
+    }
+
+    static Path resolveStateDir(Path workingDir) throws IOException {
+        return resolveStateDir(workingDir, System.getenv());
+    }
+
+    /**
+     * Each working directory, classpath, Java installation and set of {@code JRELEASER_*} variables
+     * gets its own daemon. Other variables change from one CI step to the next, they are sent with
+     * every request instead.
+     */
+    static Path resolveStateDir(Path workingDir, Map<String, String> env) throws IOException {
+        StringBuilder key = new StringBuilder(workingDir.toAbsolutePath().normalize().toString())
+            .append('\n')
+            .append(System.getProperty("java.class.path"))
+            .append('\n')
+            .append(env.get(JAVA_HOME));
+
+        for (Map.Entry<String, String> e : new TreeMap<>(env).entrySet()) {
+            if (!e.getKey().startsWith(JRELEASER_ENV_PREFIX)) continue;
+            key.append('\n').append(e.getKey()).append('=').append(e.getValue());
+        }
+
+        return resolveJReleaserHome(env)
+            .resolve(DAEMON)
+            .resolve(ChecksumUtils.checksum(Algorithm.SHA_256, key.toString().getBytes(UTF_8)));
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(Env.resolve(DAEMON, ""));
+    }
+
+    private static long resolveTimeout(String key, long defaultValue) {
+        String value = Env.resolve(key, "");
+        if (isBlank(value)) return defaultValue;
+
+        try {
+            return Math.max(1L, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Path resolveJReleaserHome(Map<String, String> env) {
+        String home = env.get("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home);
+    }
+
+    void serve() throws IOException {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout((int) Math.min(Integer.MAX_VALUE, TimeUnit.SECONDS.toMillis(idleTimeout)));
+            writeState(server.getLocalPort());
+
+            while (true) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    break;
+                }
+
+                try (Socket s = socket) {
+                    handle(s);
+                } catch (IOException e) {
+                    // client went away, keep serving
+                }
+            }
+        } finally {
+            deleteState();
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        if (!MessageDigest.isEqual(token.getBytes(UTF_8), in.readUTF().getBytes(UTF_8))) return;
+        boolean ansi = in.readBoolean();
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+        Map<String, String> env = new LinkedHashMap<>();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            env.put(in.readUTF(), in.readUTF());
+        }
+
+        Properties properties = (Properties) System.getProperties().clone();
+        System.setProperty("picocli.ansi", String.valueOf(ansi));
+        Env.setEnvironment(Collections.unmodifiableMap(env));
+
+        // the command runs on its own thread so that it can be interrupted when the client goes away
+        AtomicBoolean disconnected = new AtomicBoolean();
+        AtomicReference<Thread> command = new AtomicReference<>();
+        Runnable cancel = () -> {
+            disconnected.set(true);
+            Thread thread = command.get();
+            if (null != thread) thread.interrupt();
+        };
+
+        int[] exitCode = {1};
+        PrintWriter stdout = new PrintWriter(new OutputStreamWriter(new FrameOutputStream(out, FRAME_OUT, cancel), UTF_8), true);
+        PrintWriter stderr = new PrintWriter(new OutputStreamWriter(new FrameOutputStream(out, FRAME_ERR, cancel), UTF_8), true);
+        command.set(new Thread(() -> {
+            try {
+                exitCode[0] = runner.run(stdout, stderr, args);
+            } catch (RuntimeException e) {
+                e.printStackTrace(stderr);
+                exitCode[0] = 1;
+            } finally {
+                stdout.flush();
+                stderr.flush();
+            }
+        }, "jreleaser-daemon-command"));
+        // an abandoned command must not keep the daemon alive once idle
+        command.get().setDaemon(true);
+
+        Thread watcher = new Thread(() -> {
+            // the client sends nothing after the request, end of stream means it went away
+            try {
+                while (in.read() != -1) {
+                    // discard
+                }
+            } catch (IOException e) {
+                // socket closed
+            }
+            cancel.run();
+        }, "jreleaser-daemon-watcher");
+        watcher.setDaemon(true);
+
+        try {
+            command.get().start();
+            watcher.start();
+            await(command.get(), disconnected);
+        } finally {
+            System.setProperties(properties);
+            Env.setEnvironment(null);
+        }
+
+        if (disconnected.get()) return;
+        synchronized (out) {
+            out.writeByte(FRAME_EXIT);
+            out.writeInt(exitCode[0]);
+            out.flush();
+        }
+    }
+
+    /**
+     * Waits for the command to finish. Once its client is gone the command gets
+     * {@code abandonTimeout} seconds to honor the interrupt, most blocking I/O ignores it.
+     */
+    private void await(Thread thread, AtomicBoolean disconnected) {
+        boolean interrupted = false;
+        long deadline = 0L;
+        try {
+            while (thread.isAlive()) {
+                if (disconnected.get()) {
+                    if (deadline == 0L) deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(abandonTimeout);
+                    if (System.nanoTime() - deadline >= 0L) {
+                        System.err.println(ResourceBundle.getBundle("org.jreleaser.cli.Messages")
+                            .getString("daemon.WARN_command_abandoned"));
+                        return;
+                    }
+                }
+                try {
+                    thread.join(JOIN_POLL);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeState(int port) throws IOException {
+        Files.createDirectories(stateDir);
+
+        Properties state = new Properties();
+        state.setProperty(KEY_PORT, String.valueOf(port));
+        state.setProperty(KEY_TOKEN, token);
+
+        Path tmp = Files.createTempFile(stateDir, STATE_FILE, ".tmp");
+        try {
+            Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system
+        }
+        try (OutputStream os = Files.newOutputStream(tmp)) {
+            state.store(os, null);
+        }
+        try {
+            Files.move(tmp, stateDir.resolve(STATE_FILE), ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, stateDir.resolve(STATE_FILE), REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteState() {
+        // a newer daemon may have replaced the state file already
+        Properties state = readState(stateDir);
+        if (null != state && token.equals(state.getProperty(KEY_TOKEN))) {
+            try {
+                Files.deleteIfExists(stateDir.resolve(STATE_FILE));
+            } catch (IOException ignored) {
+                // noop
+            }
+        }
+    }
+
+    static Properties readState(Path stateDir) {
+        Path file = stateDir.resolve(STATE_FILE);
+        if (!Files.exists(file)) return null;
+
+        try (InputStream is = Files.newInputStream(file)) {
+            Properties state = new Properties();
+            state.load(is);
+            return state;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    interface CommandRunner {
+        int run(PrintWriter out, PrintWriter err, String... args);
+    }
+
+    private static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+        private final Runnable cancel;
+
+        private FrameOutputStream(DataOutputStream out, byte type, Runnable cancel) {
+            this.out = out;
+            this.type = type;
+            this.cancel = cancel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return;
+            try {
+                synchronized (out) {
+                    out.writeByte(type);
+                    out.writeInt(len);
+                    out.write(b, off, len);
+                }
+            } catch (IOException e) {
+                // PrintWriter swallows this, nobody is left to read the output
+                cancel.run();
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            try {
+                synchronized (out) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                cancel.run();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the socket outlives the command's writers
+            flush();
+        }
+    }
+}
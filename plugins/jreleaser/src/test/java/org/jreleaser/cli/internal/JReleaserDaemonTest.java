@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli.internal;
+
+import org.jreleaser.util.Env;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.jreleaser.cli.internal.JReleaserDaemon.FRAME_EXIT;
+import static org.jreleaser.cli.internal.JReleaserDaemon.FRAME_OUT;
+import static org.jreleaser.cli.internal.JReleaserDaemon.KEY_PORT;
+import static org.jreleaser.cli.internal.JReleaserDaemon.KEY_TOKEN;
+import static org.jreleaser.cli.internal.JReleaserDaemon.STATE_FILE;
+import static org.jreleaser.cli.internal.JReleaserDaemon.readState;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class JReleaserDaemonTest {
+    @TempDir
+    Path stateDir;
+
+    private Thread server;
+
+    @AfterEach
+    public void cleanup() throws InterruptedException {
+        // the daemon exits once idle
+        if (null != server) server.join(10_000L);
+    }
+
+    @Test
+    public void outputAndExitCodeAreForwarded() throws Exception {
+        // given:
+        Properties state = start((out, err, args) -> {
+            out.println("hello " + String.join(" ", args));
+            return 3;
+        });
+
+        try (Socket socket = connect(state)) {
+            // when:
+            send(socket, state.getProperty(KEY_TOKEN), "release", "--dry-run");
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            // then:
+            StringBuilder output = new StringBuilder();
+            int exitCode = readUntilExit(in, output);
+            assertThat(output.toString().trim(), equalTo("hello release --dry-run"));
+            assertThat(exitCode, equalTo(3));
+        }
+    }
+
+    @Test
+    public void invalidTokenIsRejected() throws Exception {
+        // given:
+        CountDownLatch executed = new CountDownLatch(1);
+        Properties state = start((out, err, args) -> {
+            executed.countDown();
+            return 0;
+        });
+
+        try (Socket socket = connect(state)) {
+            // when:
+            send(socket, "0000", "release");
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            // then:
+            assertThrows(EOFException.class, in::readByte);
+            assertThat(executed.getCount(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void commandIsInterruptedWhenClientDisconnects() throws Exception {
+        // given:
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Properties state = start((out, err, args) -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000L);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 0;
+        });
+
+        // when:
+        try (Socket socket = connect(state)) {
+            send(socket, state.getProperty(KEY_TOKEN), "release");
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+        }
+
+        // then:
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void commandIgnoringInterruptIsAbandoned() throws Exception {
+        // given:
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Properties state = start((out, err, args) -> {
+            if (args.length > 0 && "stuck".equals(args[0])) {
+                started.countDown();
+                // like blocking I/O, keeps going regardless of interrupts
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                        // noop
+                    }
+                }
+            }
+            return 5;
+        });
+
+        try {
+            // when:
+            try (Socket socket = connect(state)) {
+                send(socket, state.getProperty(KEY_TOKEN), "stuck");
+                assertTrue(started.await(10, TimeUnit.SECONDS));
+            }
+
+            // then:
+            int exitCode = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> execute(state, Collections.emptyMap()));
+            assertThat(exitCode, equalTo(5));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void environmentIsSentWithEveryRequest() throws Exception {
+        // given:
+        List<String> values = new CopyOnWriteArrayList<>();
+        Properties state = start((out, err, args) -> {
+            values.add(Env.getEnvironment().get("CI_JOB_ID"));
+            return 0;
+        });
+
+        // when:
+        execute(state, Collections.singletonMap("CI_JOB_ID", "1"));
+        execute(state, Collections.singletonMap("CI_JOB_ID", "2"));
+
+        // then:
+        assertThat(values, contains("1", "2"));
+        assertSame(System.getenv(), Env.getEnvironment());
+    }
+
+    @Test
+    public void ciStepVariablesShareADaemon() throws IOException {
+        // given:
+        Path workingDir = Paths.get("").toAbsolutePath();
+        Map<String, String> env = new LinkedHashMap<>();
+        env.put("JRELEASER_USER_HOME", stateDir.toString());
+        env.put("JAVA_HOME", "/opt/java");
+        env.put("JRELEASER_GITHUB_TOKEN", "token");
+
+        Map<String, String> step1 = new LinkedHashMap<>(env);
+        step1.put("GITHUB_ACTION", "__run");
+        step1.put("GITHUB_OUTPUT", "/tmp/output_1");
+        step1.put("CI_JOB_ID", "1");
+        Map<String, String> step2 = new LinkedHashMap<>(env);
+        step2.put("GITHUB_ACTION", "__run_2");
+        step2.put("GITHUB_OUTPUT", "/tmp/output_2");
+        step2.put("CI_JOB_ID", "2");
+        Map<String, String> otherToken = new LinkedHashMap<>(env);
+        otherToken.put("JRELEASER_GITHUB_TOKEN", "other");
+        Map<String, String> otherJava = new LinkedHashMap<>(env);
+        otherJava.put("JAVA_HOME", "/opt/java17");
+
+        // expect:
+        Path daemon = JReleaserDaemon.resolveStateDir(workingDir, env);
+        assertThat(JReleaserDaemon.resolveStateDir(workingDir, step1), equalTo(daemon));
+        assertThat(JReleaserDaemon.resolveStateDir(workingDir, step2), equalTo(daemon));
+        assertThat(JReleaserDaemon.resolveStateDir(workingDir, otherToken), not(equalTo(daemon)));
+        assertThat(JReleaserDaemon.resolveStateDir(workingDir, otherJava), not(equalTo(daemon)));
+    }
+
+    @Test
+    public void agentArgumentsAreNotPassedToTheDaemon() {
+        // expect:
+        assertThat(DaemonClient.resolveJvmArguments(Arrays.asList(
+                "-Xmx512m",
+                "-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=5005",
+                "-javaagent:/tmp/agent.jar",
+                "-agentpath:/tmp/libagent.so",
+                "-Xdebug",
+                "-Xrunjdwp:transport=dt_socket",
+                "-Dfile.encoding=UTF-8")),
+            contains("-Xmx512m", "-Dfile.encoding=UTF-8"));
+    }
+
+    private Properties start(JReleaserDaemon.CommandRunner runner) throws Exception {
+        JReleaserDaemon daemon = new JReleaserDaemon(stateDir, 2L, 1L, runner);
+        server = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        server.setDaemon(true);
+        server.start();
+
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (!Files.exists(stateDir.resolve(STATE_FILE)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        return readState(stateDir);
+    }
+
+    private static Socket connect(Properties state) throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(state.getProperty(KEY_PORT)));
+    }
+
+    private static void send(Socket socket, String token, String... args) throws IOException {
+        send(socket, token, Collections.emptyMap(), args);
+    }
+
+    private static void send(Socket socket, String token, Map<String, String> env, String... args) throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeUTF(token);
+        out.writeBoolean(false);
+        out.writeInt(args.length);
+        for (String arg : args) {
+            out.writeUTF(arg);
+        }
+        out.writeInt(env.size());
+        for (Map.Entry<String, String> e : env.entrySet()) {
+            out.writeUTF(e.getKey());
+            out.writeUTF(e.getValue());
+        }
+        out.flush();
+    }
+
+    private int execute(Properties state, Map<String, String> env) throws IOException {
+        try (Socket socket = connect(state)) {
+            send(socket, state.getProperty(KEY_TOKEN), env, "release");
+            return readUntilExit(new DataInputStream(new BufferedInputStream(socket.getInputStream())), new StringBuilder());
+        }
+    }
+
+    private static int readUntilExit(DataInputStream in, StringBuilder output) throws IOException {
+        while (true) {
+            byte type = in.readByte();
+            if (type == FRAME_EXIT) return in.readInt();
+
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            if (type == FRAME_OUT) output.append(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+}
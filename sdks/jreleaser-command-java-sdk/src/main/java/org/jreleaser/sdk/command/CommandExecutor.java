@@ -19,17 +19,22 @@ package org.jreleaser.sdk.command;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.JReleaserLoggerContext;
+import org.jreleaser.util.Env;
 import org.zeroturnaround.exec.ProcessExecutor;
 import org.zeroturnaround.exec.ProcessInitException;
+import org.zeroturnaround.exec.stream.TeeOutputStream;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.nio.file.Paths;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -39,9 +44,13 @@ import static org.jreleaser.util.StringUtils.isBlank;
  * @since 0.8.0
  */
 public class CommandExecutor {
+    private static final String COMMAND_TIMEOUT = "COMMAND_TIMEOUT";
+    private static final int TAIL_LINES = 100;
+
     private final JReleaserLogger logger;
     private final boolean quiet;
     private final Map<String, String> environment = new LinkedHashMap<String, String>();
+    private long timeout = -1;
 
     public CommandExecutor(JReleaserLogger logger) {
         this(logger, false);
@@ -62,28 +71,31 @@ public class CommandExecutor {
         return this;
     }
 
-    public int executeCommand(ProcessExecutor processExecutor) throws CommandException {
-        try {
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            ByteArrayOutputStream err = new ByteArrayOutputStream();
+    /**
+     * Sets a timeout in seconds for commands launched by this executor, overriding
+     * the global timeout set with {@code JRELEASER_COMMAND_TIMEOUT}. A value of
+     * zero or less disables the timeout.
+     */
+    public CommandExecutor timeout(long seconds) {
+        this.timeout = seconds;
+        return this;
+    }
 
-            int exitValue = processExecutor
-                .redirectOutput(out)
-                .redirectError(err)
-                .execute()
-                .getExitValue();
+    public int executeCommand(ProcessExecutor processExecutor) throws CommandException {
+        JReleaserLoggerContext context = logger.getContext();
+        TailLogOutputStream out = new TailLogOutputStream(quiet ? null : inContext(context, logger::info), TAIL_LINES);
+        TailLogOutputStream err = new TailLogOutputStream(quiet ? null : inContext(context, logger::error), TAIL_LINES);
 
-            if (!quiet) {
-                info(out);
-                error(err);
-            }
+        // stderr has already been logged line by line unless running quietly
+        int exitValue = execute(processExecutor
+            .redirectOutput(out)
+            .redirectError(err), err, quiet ? logger::debug : null);
 
-            return exitValue;
-        } catch (ProcessInitException e) {
-            throw new CommandException(RB.$("ERROR_unexpected_error"), e.getCause());
-        } catch (Exception e) {
-            throw new CommandException(RB.$("ERROR_unexpected_error"), e);
+        if (quiet && exitValue != 0) {
+            out.getTail().forEach(logger::debug);
         }
+
+        return exitValue;
     }
 
     public int executeCommand(Command command) throws CommandException {
@@ -138,7 +150,10 @@ public class CommandExecutor {
     private ProcessExecutor createProcessExecutor(Command command) throws CommandException {
         try {
             return new ProcessExecutor(command.asCommandLine())
-                .environment(environment);
+                // differs from the inherited environment when running in the CLI daemon
+                .environment(Env.getEnvironment())
+                .environment(environment)
+                .destroyOnExit();
         } catch (IOException e) {
             throw new CommandException(RB.$("ERROR_unexpected_error"), e);
         }
@@ -149,24 +164,37 @@ public class CommandExecutor {
     }
 
     private int executeCommandCapturing(ProcessExecutor processor, OutputStream out, OutputStream err) throws CommandException {
-        try {
-            ByteArrayOutputStream errLocal = new ByteArrayOutputStream();
+        TailLogOutputStream errTail = new TailLogOutputStream(null, TAIL_LINES);
+
+        // callers capturing stderr decide how to report it
+        return execute(processor
+            .redirectOutput(out)
+            .redirectError(null != err ? new TeeOutputStream(err, errTail) : errTail), errTail,
+            null != err ? logger::debug : logger::error);
+    }
+
+    private int execute(ProcessExecutor processor, TailLogOutputStream err, Consumer<String> errorReporter) throws CommandException {
+        String commandName = resolveCommandName(processor);
+        long seconds = resolveTimeout();
+        if (seconds > 0) {
+            processor.timeout(seconds, TimeUnit.SECONDS)
+                .stopper(ProcessTreeStopper.INSTANCE);
+        }
 
+        long start = System.nanoTime();
+        try {
             int exitValue = processor
-                .redirectOutput(out)
-                .redirectError(err)
                 .execute()
                 .getExitValue();
-
-            if (!quiet) {
-                error(errLocal);
+            logger.debug(RB.$("command.execution.metrics", commandName, exitValue, elapsed(start)));
+            if (exitValue != 0) {
+                reportTail(err, errorReporter);
             }
-
-            if (err != null) {
-                err.write(errLocal.toByteArray());
-            }
-
             return exitValue;
+        } catch (TimeoutException e) {
+            logger.debug(RB.$("command.execution.metrics", commandName, "timeout", elapsed(start)));
+            reportTail(err, errorReporter);
+            throw new CommandException(RB.$("ERROR_command_execution_timeout", commandName, seconds), e);
         } catch (ProcessInitException e) {
             throw new CommandException(RB.$("ERROR_unexpected_error"), e.getCause());
         } catch (Exception e) {
@@ -174,19 +202,45 @@ public class CommandExecutor {
         }
     }
 
-    private void info(ByteArrayOutputStream out) {
-        log(out, logger::info);
+    private static void reportTail(TailLogOutputStream err, Consumer<String> errorReporter) {
+        if (null != errorReporter) {
+            err.getTail().forEach(errorReporter);
+        }
     }
 
-    private void error(ByteArrayOutputStream err) {
-        log(err, logger::error);
+    private Consumer<String> inContext(JReleaserLoggerContext context, Consumer<String> consumer) {
+        // output is pumped on threads owned by zt-exec, log it as part of the calling task
+        return line -> {
+            logger.beginTask(context);
+            try {
+                consumer.accept(line);
+            } finally {
+                logger.endTask();
+            }
+        };
+    }
+
+    private long resolveTimeout() {
+        if (timeout > -1) return timeout;
+
+        String value = Env.resolve(COMMAND_TIMEOUT, "");
+        if (isBlank(value)) return 0;
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn(RB.$("ERROR_command_invalid_timeout", value));
+            return 0;
+        }
     }
 
-    private void log(ByteArrayOutputStream stream, Consumer<? super String> consumer) {
-        String str = stream.toString();
-        if (isBlank(str)) return;
+    private static String resolveCommandName(ProcessExecutor processor) {
+        List<String> command = processor.getCommand();
+        if (null == command || command.isEmpty()) return "";
+        return Paths.get(command.get(0)).getFileName().toString();
+    }
 
-        Arrays.stream(str.split(System.lineSeparator()))
-            .forEach(consumer);
+    private static String elapsed(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms";
     }
 }
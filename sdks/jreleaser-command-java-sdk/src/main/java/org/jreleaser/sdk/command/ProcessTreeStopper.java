@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.command;
+
+import org.zeroturnaround.exec.stop.ProcessStopper;
+
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+
+/**
+ * Forcibly destroys a process and all of its descendants.
+ * <p>
+ * Descendants can only be discovered with {@code ProcessHandle} (Java 9+), which is looked
+ * up reflectively. On Java 8 only the process itself is destroyed.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+class ProcessTreeStopper implements ProcessStopper {
+    static final ProcessTreeStopper INSTANCE = new ProcessTreeStopper();
+
+    private ProcessTreeStopper() {
+        // noop
+    }
+
+    @Override
+    public void stop(Process process) {
+        try {
+            Class<?> processHandle = Class.forName("java.lang.ProcessHandle");
+            Method destroyForcibly = processHandle.getMethod("destroyForcibly");
+            Object handle = Process.class.getMethod("toHandle").invoke(process);
+            Stream<?> descendants = (Stream<?>) processHandle.getMethod("descendants").invoke(handle);
+            descendants.forEach(child -> destroy(destroyForcibly, child));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Java 8, fall back to the process alone
+        }
+
+        process.destroyForcibly();
+    }
+
+    private static void destroy(Method destroyForcibly, Object handle) {
+        try {
+            destroyForcibly.invoke(handle);
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // process may have already exited
+        }
+    }
+}
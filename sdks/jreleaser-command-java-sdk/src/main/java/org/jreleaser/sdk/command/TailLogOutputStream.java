@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.command;
+
+import org.zeroturnaround.exec.stream.LogOutputStream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Forwards output line by line as it is produced while retaining only the
+ * last {@code maxLines} lines for error reporting.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+class TailLogOutputStream extends LogOutputStream {
+    private final Consumer<? super String> consumer;
+    private final Deque<String> tail = new ArrayDeque<>();
+    private final int maxLines;
+
+    TailLogOutputStream(Consumer<? super String> consumer, int maxLines) {
+        this.consumer = consumer;
+        this.maxLines = maxLines;
+    }
+
+    @Override
+    protected void processLine(String line) {
+        if (null != consumer) {
+            consumer.accept(line);
+        }
+
+        synchronized (tail) {
+            if (tail.size() == maxLines) {
+                tail.removeFirst();
+            }
+            tail.addLast(line);
+        }
+    }
+
+    List<String> getTail() {
+        synchronized (tail) {
+            return new ArrayList<>(tail);
+        }
+    }
+}
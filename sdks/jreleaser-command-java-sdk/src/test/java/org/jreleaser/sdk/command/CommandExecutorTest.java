@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.command;
+
+import org.jreleaser.logging.BufferedJReleaserLogger;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.JReleaserLoggerContext;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class CommandExecutorTest {
+    @Test
+    public void commandOutputKeepsCallerPrefix() throws CommandException {
+        // given:
+        StringWriter output = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO);
+        logger.increaseIndent();
+        logger.setPrefix("brew");
+
+        // when:
+        new CommandExecutor(logger).executeCommand(javaVersion());
+
+        // then:
+        List<String> lines = errorLines(output);
+        assertThat(lines, not(empty()));
+        assertThat(lines, everyItem(startsWith("  [brew] ")));
+    }
+
+    @Test
+    public void commandOutputIsBufferedWithCallerTask() throws CommandException {
+        // given:
+        StringWriter output = new StringWriter();
+        JReleaserLogger logger = BufferedJReleaserLogger.of(
+            new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO));
+        JReleaserLoggerContext context = JReleaserLoggerContext.ROOT.withPrefix("app/brew");
+
+        // when:
+        logger.beginTask(context);
+        try {
+            new CommandExecutor(logger).executeCommand(javaVersion());
+            assertThat(errorLines(output), empty());
+        } finally {
+            logger.endTask();
+        }
+
+        // then:
+        List<String> lines = errorLines(output);
+        assertThat(lines, not(empty()));
+        assertThat(lines, everyItem(startsWith("[app/brew] ")));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void timeoutKillsTheWholeProcessTree() throws Exception {
+        // descendants can only be found with ProcessHandle, inspected through /proc
+        assumeTrue(Files.isDirectory(Paths.get("/proc/self")));
+        assumeTrue(isJava9OrLater());
+
+        // given:
+        StringWriter output = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Command command = shell("sleep 60 & echo $!; wait");
+
+        // when:
+        long start = System.nanoTime();
+        assertThrows(CommandException.class, () -> new CommandExecutor(logger)
+            .timeout(1)
+            .executeCommandCapturing(command, out));
+
+        // then:
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), lessThan(30L));
+        String pid = new String(out.toByteArray(), StandardCharsets.UTF_8).trim();
+        assertThat(pid.isEmpty(), equalTo(false));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (isAlive(pid) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat("sleep child " + pid + " is still running", isAlive(pid), equalTo(false));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void failedCapturedCommandReportsTruncatedStderr() throws CommandException {
+        // given:
+        StringWriter output = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when:
+        int exitValue = new CommandExecutor(logger)
+            .executeCommandCapturing(shell("i=1; while [ $i -le 250 ]; do echo line$i >&2; i=$((i+1)); done; exit 3"), out);
+
+        // then:
+        assertThat(exitValue, equalTo(3));
+        List<String> lines = errorLines(output);
+        assertThat(lines, hasSize(100));
+        assertThat(lines.get(0), equalTo("line151"));
+        assertThat(lines.get(99), equalTo("line250"));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void failedCommandLogsStderrOnce() throws CommandException {
+        // given:
+        StringWriter output = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO);
+
+        // when:
+        int exitValue = new CommandExecutor(logger)
+            .executeCommand(shell("echo first >&2; echo second >&2; exit 2"));
+
+        // then:
+        assertThat(exitValue, equalTo(2));
+        assertThat(errorLines(output), contains("first", "second"));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void failedQuietCommandKeepsStderrOutOfErrors() throws CommandException {
+        // given:
+        StringWriter output = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(output, true), SimpleJReleaserLoggerAdapter.Level.INFO);
+
+        // when:
+        int exitValue = new CommandExecutor(logger, true)
+            .executeCommand(shell("echo failed >&2; exit 1"));
+
+        // then:
+        assertThat(exitValue, equalTo(1));
+        assertThat(errorLines(output), empty());
+    }
+
+    private static Command shell(String script) {
+        return new Command("sh")
+            .arg("-c")
+            .arg(script);
+    }
+
+    private static boolean isJava9OrLater() {
+        try {
+            Class.forName("java.lang.ProcessHandle");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static boolean isAlive(String pid) throws IOException {
+        // a killed child may linger as a zombie until reaped
+        Path stat = Paths.get("/proc", pid, "stat");
+        try {
+            String content = new String(Files.readAllBytes(stat), StandardCharsets.UTF_8);
+            return content.charAt(content.lastIndexOf(')') + 2) != 'Z';
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static Command javaVersion() {
+        return new Command(Paths.get(System.getProperty("java.home"), "bin", "java").toString())
+            .arg("-version");
+    }
+
+    private static List<String> errorLines(StringWriter output) {
+        List<String> lines = new ArrayList<>();
+        for (String line : output.toString().split("\\R")) {
+            String level = SimpleJReleaserLoggerAdapter.Level.ERROR.toString();
+            if (line.startsWith(level)) {
+                lines.add(line.substring(level.length()));
+            }
+        }
+        return lines;
+    }
+}
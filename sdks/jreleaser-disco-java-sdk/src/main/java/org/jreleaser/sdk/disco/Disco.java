@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import feign.Client;
 import feign.Feign;
 import feign.Request;
 import feign.jackson.JacksonDecoder;
@@ -32,12 +33,16 @@ import org.jreleaser.sdk.disco.api.DiscoAPI;
 import org.jreleaser.sdk.disco.api.EphemeralId;
 import org.jreleaser.sdk.disco.api.Pkg;
 import org.jreleaser.sdk.disco.api.Result;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static org.jreleaser.util.ConcurrencyUtils.task;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -45,26 +50,54 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.9.0
  */
 public class Disco {
+    public static final long DEFAULT_CACHE_TTL = 3600L;
+    public static final long CACHE_DISABLED = -1L;
     private static final String ENDPOINT = "https://api.foojay.io/disco/v3.0";
 
     private final JReleaserLogger logger;
     private final DiscoAPI api;
 
+    /**
+     * Responses are not cached, use {@link #Disco(JReleaserLogger, int, int, long, boolean)} to opt in.
+     */
     public Disco(JReleaserLogger logger, int connectTimeout, int readTimeout) throws IOException {
+        this(logger, connectTimeout, readTimeout, CACHE_DISABLED, false);
+    }
+
+    /**
+     * @param cacheTtl seconds a cached response is used without revalidation, a negative value disables the cache.
+     * @param offline  whether only cached responses should be used.
+     * @since 1.3.0
+     */
+    public Disco(JReleaserLogger logger, int connectTimeout, int readTimeout, long cacheTtl, boolean offline) throws IOException {
+        this(logger, ENDPOINT, DiscoCache.resolveDefaultCacheDirectory(), connectTimeout, readTimeout, cacheTtl, offline);
+    }
+
+    /**
+     * @since 1.3.0
+     */
+    public Disco(JReleaserLogger logger, String endpoint, Path cacheDirectory, int connectTimeout, int readTimeout,
+                 long cacheTtl, boolean offline) throws IOException {
         ObjectMapper objectMapper = new ObjectMapper()
             .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
             .setSerializationInclusion(JsonInclude.Include.NON_NULL)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
+        Client client = new Client.Default(null, null);
+        if (cacheTtl >= 0 || offline) {
+            client = new DiscoCache(logger, client, cacheDirectory, Math.max(0L, cacheTtl), offline);
+        }
+
         this.logger = logger;
         this.api = Feign.builder()
+            .client(client)
             .encoder(new JacksonEncoder(objectMapper))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion()))
             .errorDecoder((methodKey, response) -> new RestAPIException(response.request(), response.status(), response.reason(), response.headers()))
             .options(new Request.Options(connectTimeout, TimeUnit.SECONDS, readTimeout, TimeUnit.SECONDS, true))
-            .target(DiscoAPI.class, ENDPOINT);
+            .target(DiscoAPI.class, endpoint);
     }
 
     public JReleaserLogger getLogger() {
@@ -89,6 +122,41 @@ public class Disco {
         return packages.getResult();
     }
 
+    /**
+     * Resolves every query using at most {@code parallelism} concurrent requests.
+     *
+     * @return the packages of each query, in the order the queries were given.
+     * @since 1.3.0
+     */
+    public List<List<Pkg>> packages(List<Pkg> pkgs, int parallelism) throws RestAPIException {
+        List<List<Pkg>> packages = new ArrayList<>(Collections.nCopies(pkgs.size(), null));
+        if (parallelism <= 1 || pkgs.size() < 2) {
+            for (int i = 0; i < pkgs.size(); i++) {
+                packages.set(i, packages(pkgs.get(i)));
+            }
+            return packages;
+        }
+
+        List<ConcurrencyUtils.GroupedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < pkgs.size(); i++) {
+            int index = i;
+            tasks.add(task(String.valueOf(i), () -> packages.set(index, packages(pkgs.get(index)))));
+        }
+
+        List<Throwable> failures = ConcurrencyUtils.executeGrouped("disco", parallelism, tasks);
+        for (Throwable failure : failures) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (null != failure) {
+                throw new IllegalStateException(failure);
+            }
+        }
+
+        return packages;
+    }
+
     public List<EphemeralId> pkg(String id) throws RestAPIException {
         logger.debug(RB.$("disco.fetch.package"), id);
 
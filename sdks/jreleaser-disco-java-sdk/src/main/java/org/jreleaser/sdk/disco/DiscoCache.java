@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.disco;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Feign client that keeps successful {@code GET} responses on disk.
+ * <p>
+ * Every entry is stored at {@code <cacheDirectory>/<sha256(url)>.properties} together with the
+ * {@code ETag} and {@code Last-Modified} headers sent by the server. Entries younger than the
+ * configured TTL are served without contacting the server; older entries are revalidated with a
+ * conditional request. In offline mode entries are served regardless of their age, a missing
+ * entry results in a {@code 504} response.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+class DiscoCache implements Client {
+    private static final String KEY_URL = "url";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "last.modified";
+    private static final String KEY_CONTENT_TYPE = "content.type";
+    private static final String KEY_FETCHED = "fetched";
+    private static final String KEY_BODY = "body";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    private final JReleaserLogger logger;
+    private final Client delegate;
+    private final Path cacheDirectory;
+    private final long ttl;
+    private final boolean offline;
+
+    DiscoCache(JReleaserLogger logger, Client delegate, Path cacheDirectory, long ttl, boolean offline) {
+        this.logger = logger;
+        this.delegate = delegate;
+        this.cacheDirectory = cacheDirectory;
+        this.ttl = ttl;
+        this.offline = offline;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return delegate.execute(request, options);
+        }
+
+        Path entry = cacheDirectory.resolve(ChecksumUtils.checksum(Algorithm.SHA_256,
+            request.url().getBytes(StandardCharsets.UTF_8)) + ".properties");
+        Properties cached = readEntry(entry, request.url());
+
+        if (offline) {
+            if (null == cached) {
+                return Response.builder()
+                    .status(504)
+                    .reason(RB.$("ERROR_disco_offline", request.url()))
+                    .headers(Collections.emptyMap())
+                    .request(request)
+                    .build();
+            }
+            logger.debug(RB.$("disco.cache.hit"), request.url());
+            return toResponse(request, cached);
+        }
+
+        if (null != cached && System.currentTimeMillis() - fetched(cached) < ttl * 1000L) {
+            logger.debug(RB.$("disco.cache.hit"), request.url());
+            return toResponse(request, cached);
+        }
+
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        if (null != cached) {
+            if (isNotBlank(cached.getProperty(KEY_ETAG))) {
+                headers.put("If-None-Match", Collections.singletonList(cached.getProperty(KEY_ETAG)));
+            }
+            if (isNotBlank(cached.getProperty(KEY_LAST_MODIFIED))) {
+                headers.put("If-Modified-Since", Collections.singletonList(cached.getProperty(KEY_LAST_MODIFIED)));
+            }
+        }
+
+        Request conditional = Request.create(request.httpMethod(), request.url(), headers,
+            request.body(), request.charset(), request.requestTemplate());
+
+        Response response;
+        try {
+            response = delegate.execute(conditional, options);
+        } catch (IOException e) {
+            if (null == cached) throw e;
+            logger.warn(RB.$("disco.cache.stale"), request.url(), e.getMessage());
+            return toResponse(request, cached);
+        }
+
+        if (304 == response.status() && null != cached) {
+            response.close();
+            logger.debug(RB.$("disco.cache.revalidated"), request.url());
+            cached.setProperty(KEY_FETCHED, String.valueOf(System.currentTimeMillis()));
+            writeEntry(entry, cached);
+            return toResponse(request, cached);
+        }
+
+        if (200 != response.status() || null == response.body()) {
+            return response;
+        }
+
+        byte[] body;
+        try (InputStream in = response.body().asInputStream()) {
+            body = readAll(in);
+        } finally {
+            response.close();
+        }
+
+        Properties fresh = new Properties();
+        fresh.setProperty(KEY_URL, request.url());
+        fresh.setProperty(KEY_FETCHED, String.valueOf(System.currentTimeMillis()));
+        fresh.setProperty(KEY_BODY, new String(body, StandardCharsets.UTF_8));
+        putHeader(fresh, KEY_ETAG, response.headers(), ETAG);
+        putHeader(fresh, KEY_LAST_MODIFIED, response.headers(), LAST_MODIFIED);
+        putHeader(fresh, KEY_CONTENT_TYPE, response.headers(), CONTENT_TYPE);
+        writeEntry(entry, fresh);
+
+        return response.toBuilder()
+            .body(body)
+            .build();
+    }
+
+    private Response toResponse(Request request, Properties cached) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        if (isNotBlank(cached.getProperty(KEY_CONTENT_TYPE))) {
+            headers.put(CONTENT_TYPE, Collections.singletonList(cached.getProperty(KEY_CONTENT_TYPE)));
+        }
+
+        return Response.builder()
+            .status(200)
+            .reason("OK")
+            .headers(headers)
+            .request(request)
+            .body(cached.getProperty(KEY_BODY), StandardCharsets.UTF_8)
+            .build();
+    }
+
+    private long fetched(Properties cached) {
+        try {
+            return Long.parseLong(cached.getProperty(KEY_FETCHED, "0"));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private void putHeader(Properties properties, String key, Map<String, Collection<String>> headers, String name) {
+        for (Map.Entry<String, Collection<String>> e : headers.entrySet()) {
+            if (name.equalsIgnoreCase(e.getKey()) && null != e.getValue() && !e.getValue().isEmpty()) {
+                properties.setProperty(key, e.getValue().iterator().next());
+                return;
+            }
+        }
+    }
+
+    private Properties readEntry(Path entry, String url) {
+        if (!Files.exists(entry)) return null;
+
+        try (InputStream in = Files.newInputStream(entry)) {
+            Properties properties = new Properties();
+            properties.load(in);
+            // guard against digest collisions and truncated entries
+            if (!url.equals(properties.getProperty(KEY_URL)) || null == properties.getProperty(KEY_BODY)) {
+                return null;
+            }
+            return properties;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeEntry(Path entry, Properties properties) {
+        try {
+            Files.createDirectories(entry.getParent());
+            // written to a temporary file and moved so that concurrent readers never see partial entries
+            Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            try {
+                Files.move(tmp, entry, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // the cache is an optimization, failing to write it must not fail the request
+            logger.debug(e.getMessage());
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    static Path resolveDefaultCacheDirectory() {
+        String home = System.getenv("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+
+        return Paths.get(home).resolve("caches").resolve("disco");
+    }
+}
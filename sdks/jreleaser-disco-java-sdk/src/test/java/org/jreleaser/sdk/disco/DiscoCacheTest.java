@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.disco;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.sdk.disco.api.Pkg;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class DiscoCacheTest {
+    private static final String PACKAGES_ENDPOINT = "/packages";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    public void freshResponsesAreServedFromCache() throws IOException {
+        // given:
+        stubFor(get(urlPathEqualTo(PACKAGES_ENDPOINT))
+            .willReturn(okJson(packages("zulu-17")).withHeader("ETag", "\"v1\"")));
+
+        // when:
+        List<Pkg> first = disco(3600L, false).packages(query("17"));
+        List<Pkg> second = disco(3600L, false).packages(query("17"));
+
+        // then:
+        assertThat(first.get(0).getId(), equalTo("zulu-17"));
+        assertThat(second.get(0).getId(), equalTo("zulu-17"));
+        verify(1, getRequestedFor(urlPathEqualTo(PACKAGES_ENDPOINT)));
+    }
+
+    @Test
+    public void staleResponsesAreRevalidated() throws IOException {
+        // given:
+        stubFor(get(urlPathEqualTo(PACKAGES_ENDPOINT))
+            .willReturn(okJson(packages("zulu-17"))
+                .withHeader("ETag", "\"v1\"")
+                .withHeader("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT")));
+        disco(0L, false).packages(query("17"));
+
+        stubFor(get(urlPathEqualTo(PACKAGES_ENDPOINT))
+            .withHeader("If-None-Match", WireMock.equalTo("\"v1\""))
+            .willReturn(aResponse().withStatus(304)));
+
+        // when:
+        List<Pkg> packages = disco(0L, false).packages(query("17"));
+
+        // then:
+        assertThat(packages.get(0).getId(), equalTo("zulu-17"));
+        verify(getRequestedFor(urlPathEqualTo(PACKAGES_ENDPOINT))
+            .withHeader("If-None-Match", WireMock.equalTo("\"v1\""))
+            .withHeader("If-Modified-Since", WireMock.equalTo("Wed, 21 Oct 2015 07:28:00 GMT")));
+    }
+
+    @Test
+    public void offlineUsesCachedResponses() throws IOException {
+        // given:
+        stubFor(get(urlPathEqualTo(PACKAGES_ENDPOINT))
+            .willReturn(okJson(packages("zulu-17"))));
+        disco(0L, false).packages(query("17"));
+
+        // when:
+        List<Pkg> packages = disco(0L, true).packages(query("17"));
+
+        // then:
+        assertThat(packages.get(0).getId(), equalTo("zulu-17"));
+        verify(1, getRequestedFor(urlPathEqualTo(PACKAGES_ENDPOINT)));
+    }
+
+    @Test
+    public void offlineFailsOnMissingResponses() throws IOException {
+        // given:
+        Disco disco = disco(0L, true);
+
+        // when:
+        RestAPIException e = assertThrows(RestAPIException.class, () -> disco.packages(query("17")));
+
+        // then:
+        assertThat(e.getStatus(), equalTo(504));
+        verify(0, getRequestedFor(urlPathEqualTo(PACKAGES_ENDPOINT)));
+    }
+
+    @Test
+    public void disabledCacheAlwaysHitsTheApi() throws IOException {
+        // given:
+        stubFor(get(urlPathEqualTo(PACKAGES_ENDPOINT))
+            .willReturn(okJson(packages("zulu-17")).withHeader("ETag", "\"v1\"")));
+        Disco disco = disco(Disco.CACHE_DISABLED, false);
+
+        // when:
+        disco.packages(query("17"));
+        disco.packages(query("17"));
+
+        // then:
+        verify(2, getRequestedFor(urlPathEqualTo(PACKAGES_ENDPOINT)));
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertThat(files.count(), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void concurrentQueriesKeepOrder() throws IOException {
+        // given:
+        List<Pkg> queries = new ArrayList<>();
+        for (String version : new String[]{"11", "17", "19"}) {
+            stubFor(get(urlPathEqualTo(PACKAGES_ENDPOINT))
+                .withQueryParam("version", WireMock.equalTo(version))
+                .willReturn(okJson(packages("zulu-" + version))));
+            queries.add(query(version));
+        }
+
+        // when:
+        List<List<Pkg>> packages = disco(Disco.CACHE_DISABLED, false).packages(queries, 3);
+
+        // then:
+        List<String> ids = new ArrayList<>();
+        packages.forEach(p -> ids.add(p.get(0).getId()));
+        assertThat(ids, contains("zulu-11", "zulu-17", "zulu-19"));
+    }
+
+    private Disco disco(long cacheTtl, boolean offline) throws IOException {
+        return new Disco(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.DEBUG),
+            api.baseUrl(), cacheDirectory, 20, 60, cacheTtl, offline);
+    }
+
+    private static Pkg query(String version) {
+        Pkg pkg = new Pkg();
+        pkg.setVersion(version);
+        pkg.setDistribution("zulu");
+        pkg.setOperatingSystem("linux");
+        return pkg;
+    }
+
+    private static String packages(String id) {
+        return "{\"result\":[{\"id\":\"" + id + "\",\"filename\":\"" + id + ".zip\",\"directly_downloadable\":true}],\"message\":\"\"}";
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.disco;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.Options;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+class WireMockExtension extends WireMockServer implements BeforeEachCallback, AfterEachCallback {
+    WireMockExtension(Options options) {
+        super(options);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        this.start();
+        WireMock.configureFor("localhost", port());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        this.stop();
+        this.resetAll();
+    }
+}
\ No newline at end of file
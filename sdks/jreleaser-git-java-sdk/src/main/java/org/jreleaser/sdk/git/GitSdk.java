@@ -172,7 +172,8 @@ public class GitSdk {
         return new Commit(
             commit.getId().abbreviate(7).name(),
             commit.getId().name(),
-            extractHeadName(ref));
+            extractHeadName(ref),
+            commit.getCommitTime());
     }
 
     public void deleteTag(String tagName) throws IOException {
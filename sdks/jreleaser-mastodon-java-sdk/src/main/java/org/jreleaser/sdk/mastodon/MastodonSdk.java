@@ -25,6 +25,7 @@ import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.mastodon.api.MastodonAPI;
 import org.jreleaser.sdk.mastodon.api.Status;
+import org.jreleaser.util.RateLimiter;
 
 import static java.util.Objects.requireNonNull;
 import static org.jreleaser.util.StringUtils.requireNonBlank;
@@ -74,10 +75,16 @@ public class MastodonSdk {
 
     private void wrap(Runnable runnable) throws MastodonException {
         try {
-            if (!dryrun) runnable.run();
+            if (!dryrun) {
+                RateLimiter.of("mastodon").acquire();
+                runnable.run();
+            }
         } catch (RestAPIException e) {
             logger.trace(e);
             throw new MastodonException(RB.$("sdk.operation.failed", "Mastodon"), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MastodonException(RB.$("sdk.operation.failed", "Mastodon"), e);
         }
     }
 
@@ -22,11 +22,13 @@ import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
 import org.jreleaser.util.FileUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
@@ -57,6 +59,7 @@ public class DownloadableTool {
     private static final String COMMAND_VERIFY = "command.verify";
     private static final String EXECUTABLE_PATH = ".executable.path";
     private static final String UNPACK = "unpack";
+    private static final String SHA256 = ".sha256";
 
     private final JReleaserLogger logger;
     private final String name;
@@ -67,6 +70,7 @@ public class DownloadableTool {
     private final boolean verifyErrorOutput;
 
     private Path executable;
+    private ToolCache cache;
 
     public DownloadableTool(JReleaserLogger logger, String name, String version, String platform, boolean verifyErrorOutput) throws ToolException {
         this.logger = logger;
@@ -120,10 +124,26 @@ public class DownloadableTool {
     }
 
     public boolean verify() {
-        if (null != executable) {
-            return verify(executable);
+        if (null == executable) {
+            return false;
         }
-        return false;
+
+        ToolCache cache = resolveCache();
+        if (null != cache && cache.isCached(executable) && cache.isVerified()) {
+            // previously verified binary whose contents have not changed, skip the version probe
+            logger.debug(RB.$("tool.cached", executable));
+            return true;
+        }
+
+        boolean verified = verify(executable);
+        if (verified && null != cache && cache.isCached(executable)) {
+            try {
+                cache.markVerified();
+            } catch (IOException e) {
+                logger.debug(e.getMessage());
+            }
+        }
+        return verified;
     }
 
     private boolean verify(Path executable) {
@@ -160,59 +180,61 @@ public class DownloadableTool {
     }
 
     public void download() throws ToolException {
-        String filename = properties.getProperty(platformKey(FILENAME));
-
-        if (isBlank(filename)) {
+        ToolCache cache = resolveCache();
+        if (null == cache) {
             executable = null;
             return;
         }
 
-        Path caches = resolveJReleaserCacheDir();
-        Path dest = caches.resolve(name).resolve(version);
-
-        boolean unpack = Boolean.parseBoolean(properties.getProperty(UNPACK));
-        String downloadUrl = properties.getProperty(DOWNLOAD_URL);
-        String executablePath = properties.getProperty(platformKey(EXECUTABLE_PATH));
-        String exec = properties.getProperty(platformKey(EXECUTABLE));
-
-        Map<String, Object> props = props();
-        filename = resolveTemplate(filename, props);
-        if (isNotBlank(executablePath)) executablePath = resolveTemplate(executablePath, props);
-
-        Path test = dest;
-        if (unpack) {
-            test = dest.resolve(executablePath);
-        }
-        test = test.resolve(exec).toAbsolutePath();
-
-        if (Files.exists(test)) {
-            executable = test;
+        if (cache.isValid()) {
+            executable = cache.getExecutable();
             logger.debug(RB.$("tool.cached", executable));
             return;
         }
 
-        downloadUrl = resolveTemplate(downloadUrl, props) + filename;
-        try (InputStream stream = new URL(downloadUrl).openStream()) {
+        Map<String, Object> props = props();
+        String filename = resolveTemplate(properties.getProperty(platformKey(FILENAME)), props);
+        String downloadUrl = resolveTemplate(properties.getProperty(DOWNLOAD_URL), props) + filename;
+        String expectedSha256 = properties.getProperty(platformKey(SHA256));
+        boolean unpack = Boolean.parseBoolean(properties.getProperty(UNPACK));
+        String exec = properties.getProperty(platformKey(EXECUTABLE));
+
+        try {
             Path tmp = Files.createTempDirectory("jreleaser");
             Path destination = tmp.resolve(filename);
 
-            logger.debug(RB.$("tool.located", filename));
-            logger.debug(RB.$("tool.downloading", downloadUrl));
-            Files.copy(stream, destination, REPLACE_EXISTING);
-            logger.debug(RB.$("tool.downloaded", filename));
-
-            Files.createDirectories(dest);
-            if (unpack) {
-                FileUtils.unpackArchive(destination, dest, false);
-                logger.debug(RB.$("tool.unpacked", filename));
-                executable = dest.resolve(executablePath).resolve(exec).toAbsolutePath();
-            } else {
-                Path executableFile = dest.resolve(exec);
-                Files.move(destination, executableFile);
-                FileUtils.grantExecutableAccess(executableFile);
-                executable = executableFile.toAbsolutePath();
+            try {
+                logger.debug(RB.$("tool.located", filename));
+                logger.debug(RB.$("tool.downloading", downloadUrl));
+                try (InputStream stream = new URL(downloadUrl).openStream()) {
+                    Files.copy(stream, destination, REPLACE_EXISTING);
+                }
+                logger.debug(RB.$("tool.downloaded", filename));
+
+                String sha256 = ChecksumUtils.checksum(Algorithm.SHA_256, destination);
+                if (isNotBlank(expectedSha256) && !expectedSha256.trim().equalsIgnoreCase(sha256)) {
+                    throw new ToolException(RB.$("tool.checksum.mismatch", filename, expectedSha256.trim(), sha256));
+                }
+
+                cache.populate(sha256, staging -> {
+                    if (unpack) {
+                        FileUtils.unpackArchive(destination, staging, false);
+                        logger.debug(RB.$("tool.unpacked", filename));
+                    } else {
+                        Path executableFile = staging.resolve(exec);
+                        Files.copy(destination, executableFile, REPLACE_EXISTING);
+                        FileUtils.grantExecutableAccess(executableFile);
+                    }
+                });
+            } finally {
+                FileUtils.deleteFiles(tmp);
             }
+
+            executable = cache.getExecutable();
             logger.debug(RB.$("tool.cached", executable));
+        } catch (ToolException e) {
+            logger.debug(e.getMessage());
+            throw e;
         } catch (FileNotFoundException e) {
             logger.debug(RB.$("tool.not.found", filename));
             throw new ToolException(RB.$("tool.not.found", filename), e);
@@ -241,12 +263,26 @@ public class DownloadableTool {
         }
     }
 
-    private Path resolveJReleaserCacheDir() {
-        String home = System.getenv("JRELEASER_USER_HOME");
-        if (isBlank(home)) {
-            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+    private ToolCache resolveCache() {
+        if (!enabled) {
+            return null;
+        }
+
+        if (null == cache) {
+            String filename = properties.getProperty(platformKey(FILENAME));
+            if (isBlank(filename)) {
+                return null;
+            }
+
+            String exec = properties.getProperty(platformKey(EXECUTABLE));
+            String executablePath = properties.getProperty(platformKey(EXECUTABLE_PATH));
+            if (Boolean.parseBoolean(properties.getProperty(UNPACK)) && isNotBlank(executablePath)) {
+                exec = resolveTemplate(executablePath, props()) + "/" + exec;
+            }
+
+            cache = new ToolCache(name, version, platform, exec);
         }
 
-        return Paths.get(home).resolve("caches");
+        return cache;
     }
 }
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Content-addressed cache of downloaded tools, keyed by name, version and platform.
+ * <p>
+ * Every entry is stored at {@code $JRELEASER_USER_HOME/caches/<name>/<version>/<platform>} together
+ * with a manifest that records the SHA-256 of the downloaded file and of the resolved executable.
+ * Entries are populated in a staging directory and moved into place atomically while holding a
+ * file lock, so that concurrent JReleaser processes never observe partial downloads.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+class ToolCache {
+    private static final String MANIFEST = ".jreleaser-tool.properties";
+    private static final String KEY_DOWNLOAD_SHA256 = "download.sha256";
+    private static final String KEY_EXECUTABLE = "executable";
+    private static final String KEY_EXECUTABLE_SHA256 = "executable.sha256";
+    private static final String KEY_EXECUTABLE_SIZE = "executable.size";
+    private static final String KEY_EXECUTABLE_MODIFIED = "executable.modified";
+    private static final String KEY_VERIFIED = "verified";
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path entry;
+    private final Path executable;
+
+    ToolCache(String name, String version, String platform, String executablePath) {
+        this(resolveJReleaserCacheDir(), name, version, platform, executablePath);
+    }
+
+    ToolCache(Path cacheDirectory, String name, String version, String platform, String executablePath) {
+        this.entry = cacheDirectory.resolve(name).resolve(version).resolve(platform);
+        this.executable = entry.resolve(executablePath).toAbsolutePath().normalize();
+    }
+
+    Path getEntry() {
+        return entry;
+    }
+
+    Path getExecutable() {
+        return executable;
+    }
+
+    boolean isCached(Path path) {
+        return null != path && path.toAbsolutePath().normalize().equals(executable);
+    }
+
+    /**
+     * Whether the entry exists and its executable matches the stored digest.
+     */
+    boolean isValid() {
+        Properties manifest = readManifest();
+        return null != manifest && matches(manifest);
+    }
+
+    /**
+     * Whether the entry is valid and was previously verified by running the tool.
+     */
+    boolean isVerified() {
+        Properties manifest = readManifest();
+        return null != manifest &&
+            Boolean.parseBoolean(manifest.getProperty(KEY_VERIFIED)) &&
+            matches(manifest);
+    }
+
+    void markVerified() throws IOException {
+        withLock(() -> {
+            Properties manifest = readManifest();
+            if (null != manifest && matches(manifest)) {
+                manifest.setProperty(KEY_VERIFIED, "true");
+                writeManifest(entry, manifest);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Populates the entry if missing. The populator receives a staging directory located next to
+     * the entry (same file store) and must leave the tool's files inside it.
+     */
+    void populate(String downloadSha256, Populator populator) throws IOException {
+        withLock(() -> {
+            // another process may have populated the entry while we waited for the lock
+            if (isValid()) return null;
+
+            if (Files.exists(entry)) {
+                FileUtils.deleteFiles(entry);
+            }
+
+            Files.createDirectories(entry.getParent());
+            Path staging = Files.createTempDirectory(entry.getParent(), entry.getFileName() + ".tmp");
+            try {
+                populator.populate(staging);
+
+                Path stagedExecutable = staging.resolve(entry.relativize(executable));
+                if (!Files.exists(stagedExecutable)) {
+                    throw new IOException(executable.getFileName() + " not found");
+                }
+
+                Properties manifest = new Properties();
+                manifest.setProperty(KEY_DOWNLOAD_SHA256, downloadSha256);
+                manifest.setProperty(KEY_EXECUTABLE, entry.relativize(executable).toString());
+                manifest.setProperty(KEY_EXECUTABLE_SHA256, ChecksumUtils.checksum(Algorithm.SHA_256, stagedExecutable));
+                writeManifest(staging, manifest);
+
+                try {
+                    Files.move(staging, entry, ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(staging, entry);
+                }
+
+                // timestamps may change on move across some file stores, record them last
+                Properties stamped = readManifest();
+                if (null != stamped) {
+                    stamp(stamped);
+                    writeManifest(entry, stamped);
+                }
+            } finally {
+                if (Files.exists(staging)) {
+                    FileUtils.deleteFiles(staging);
+                }
+            }
+            return null;
+        });
+    }
+
+    private boolean matches(Properties manifest) {
+        try {
+            if (!Files.isRegularFile(executable)) return false;
+
+            String size = String.valueOf(Files.size(executable));
+            String modified = String.valueOf(Files.getLastModifiedTime(executable).toMillis());
+            if (size.equals(manifest.getProperty(KEY_EXECUTABLE_SIZE)) &&
+                modified.equals(manifest.getProperty(KEY_EXECUTABLE_MODIFIED))) {
+                return true;
+            }
+
+            // file attributes changed, fall back to comparing contents
+            String expected = manifest.getProperty(KEY_EXECUTABLE_SHA256);
+            return !isBlank(expected) && expected.equals(ChecksumUtils.checksum(Algorithm.SHA_256, executable));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void stamp(Properties manifest) throws IOException {
+        manifest.setProperty(KEY_EXECUTABLE_SIZE, String.valueOf(Files.size(executable)));
+        manifest.setProperty(KEY_EXECUTABLE_MODIFIED, String.valueOf(Files.getLastModifiedTime(executable).toMillis()));
+    }
+
+    private Properties readManifest() {
+        Path file = entry.resolve(MANIFEST);
+        if (!Files.exists(file)) return null;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            Properties manifest = new Properties();
+            manifest.load(in);
+            return manifest;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeManifest(Path dir, Properties manifest) throws IOException {
+        Path tmp = Files.createTempFile(dir, MANIFEST, ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            manifest.store(out, null);
+        }
+        try {
+            Files.move(tmp, dir.resolve(MANIFEST), ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, dir.resolve(MANIFEST), REPLACE_EXISTING);
+        }
+    }
+
+    private <T> T withLock(Action<T> action) throws IOException {
+        // FileLock is held per JVM, threads within the same process must be serialized separately
+        ReentrantLock lock = LOCKS.computeIfAbsent(entry, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            Files.createDirectories(entry.getParent());
+            Path lockFile = entry.getParent().resolve(entry.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE)) {
+                FileLock fileLock = channel.lock();
+                try {
+                    return action.execute();
+                } finally {
+                    fileLock.release();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static Path resolveJReleaserCacheDir() {
+        String home = System.getenv("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+
+        return Paths.get(home).resolve("caches");
+    }
+
+    interface Populator {
+        void populate(Path staging) throws IOException;
+    }
+
+    private interface Action<T> {
+        T execute() throws IOException;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ToolCacheTest {
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    public void populatedEntryIsValid() throws IOException {
+        // given:
+        ToolCache cache = cache();
+
+        // when:
+        cache.populate("abc", staging -> write(staging.resolve("tool"), "v1"));
+
+        // then:
+        assertThat(cache.isValid(), equalTo(true));
+        assertThat(cache.isVerified(), equalTo(false));
+        assertThat(cache.isCached(cache.getExecutable()), equalTo(true));
+        assertThat(cache().isValid(), equalTo(true));
+    }
+
+    @Test
+    public void verificationStampIsPersisted() throws IOException {
+        // given:
+        ToolCache cache = cache();
+        cache.populate("abc", staging -> write(staging.resolve("tool"), "v1"));
+
+        // when:
+        cache.markVerified();
+
+        // then:
+        assertThat(cache().isVerified(), equalTo(true));
+    }
+
+    @Test
+    public void modifiedExecutableInvalidatesEntry() throws IOException {
+        // given:
+        ToolCache cache = cache();
+        cache.populate("abc", staging -> write(staging.resolve("tool"), "v1"));
+        cache.markVerified();
+
+        // when:
+        write(cache.getExecutable(), "v2");
+        Files.setLastModifiedTime(cache.getExecutable(), FileTime.fromMillis(0L));
+
+        // then:
+        assertThat(cache.isValid(), equalTo(false));
+        assertThat(cache.isVerified(), equalTo(false));
+    }
+
+    @Test
+    public void concurrentPopulateRunsOnce() throws Exception {
+        // given:
+        AtomicInteger downloads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when:
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                cache().populate("abc", staging -> {
+                    downloads.incrementAndGet();
+                    write(staging.resolve("tool"), "v1");
+                });
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then:
+        assertThat(downloads.get(), equalTo(1));
+        assertThat(cache().isValid(), equalTo(true));
+    }
+
+    private ToolCache cache() {
+        return new ToolCache(cacheDirectory, "tool", "1.0.0", "linux-x86_64", "tool");
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
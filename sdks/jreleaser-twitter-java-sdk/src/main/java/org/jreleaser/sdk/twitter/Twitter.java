@@ -19,6 +19,7 @@ package org.jreleaser.sdk.twitter;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.util.RateLimiter;
 import twitter4j.Status;
 import twitter4j.StatusUpdate;
 import twitter4j.TwitterFactory;
@@ -73,9 +74,13 @@ public class Twitter {
 
     public void updateStatus(List<String> statuses) throws TwitterException {
         wrap(() -> {
+            // threads post several statuses in a row, pace them with any other Twitter caller
+            RateLimiter limiter = RateLimiter.of("twitter");
             String message = statuses.get(0);
+            limiter.acquire();
             Status status = twitter.updateStatus(message);
             for (int i = 1; i < statuses.size(); i++) {
+                limiter.acquire();
                 status = twitter.updateStatus(new StatusUpdate(statuses.get(i))
                     .inReplyToStatusId(status.getId()));
             }
@@ -88,10 +93,13 @@ public class Twitter {
         } catch (twitter4j.TwitterException e) {
             logger.trace(e);
             throw new TwitterException(RB.$("sdk.operation.failed", "Twitter"), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TwitterException(RB.$("sdk.operation.failed", "Twitter"), e);
         }
     }
 
     private interface TwitterOperation {
-        void execute() throws twitter4j.TwitterException;
+        void execute() throws twitter4j.TwitterException, InterruptedException;
     }
 }